@@ -20,6 +20,7 @@ package org.neo4j.ogm.cypher.compiler;
 
 import org.neo4j.ogm.cypher.statement.ParameterisedStatement;
 import org.neo4j.ogm.mapper.MappedRelationship;
+import org.neo4j.ogm.mapper.RelationshipRegister;
 
 import java.util.*;
 
@@ -28,12 +29,14 @@ import java.util.*;
  */
 public class CypherContext {
 
-    private final Map<Object, NodeBuilder> visitedObjects = new HashMap<>();
+    private final Map<Object, NodeBuilder> visitedObjects = new IdentityHashMap<>();
 
     private final Map<String, Object> createdObjects = new HashMap<>();
-    private final Collection<MappedRelationship> registeredRelationships = new HashSet<>();
+    private final RelationshipRegister registeredRelationships = new RelationshipRegister();
+    private final Collection<MappedRelationship> deregisteredRelationships = new HashSet<>();
 
     private final Collection<Object> log = new HashSet<>();
+    private final Collection<Object> relationshipsMapped = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
 
     private List<ParameterisedStatement> statements;
 
@@ -85,23 +88,43 @@ public class CypherContext {
         return log;
     }
 
+    /**
+     * Records that all the relationships declared by the given entity have been mapped by this context.
+     *
+     * @param entity the entity whose relationships were mapped
+     */
+    public void logRelationshipsOf(Object entity) {
+        relationshipsMapped.add(entity);
+    }
+
+    public Collection<Object> entitiesWithMappedRelationships() {
+        return relationshipsMapped;
+    }
+
+    /**
+     * Removes a previously mapped relationship from this context and remembers it as a candidate
+     * for deletion, unless it is registered again before the request is compiled.
+     *
+     * @param mappedRelationship the relationship whose status is being re-evaluated
+     */
+    public void deregisterRelationship(MappedRelationship mappedRelationship) {
+        this.registeredRelationships.remove(mappedRelationship);
+        this.deregisteredRelationships.add(mappedRelationship);
+    }
+
+    public Collection<MappedRelationship> deregisteredRelationships() {
+        return deregisteredRelationships;
+    }
+
     public void deregisterOutgoingRelationships(Long src, String relationshipType) {
-        Iterator<MappedRelationship> iterator = registeredRelationships.iterator();
-        while (iterator.hasNext()) {
-           MappedRelationship mappedRelationship = iterator.next();
-           if (mappedRelationship.getStartNodeId() == src && mappedRelationship.getRelationshipType().equals(relationshipType)) {
-               iterator.remove();
-           }
+        for (MappedRelationship mappedRelationship : registeredRelationships.outgoing(src, relationshipType)) {
+            deregisterRelationship(mappedRelationship);
         }
     }
 
     public void deregisterIncomingRelationships(Long tgt, String relationshipType) {
-        Iterator<MappedRelationship> iterator = registeredRelationships.iterator();
-        while (iterator.hasNext()) {
-            MappedRelationship mappedRelationship = iterator.next();
-            if (mappedRelationship.getEndNodeId() == tgt && mappedRelationship.getRelationshipType().equals(relationshipType)) {
-                iterator.remove();
-            }
+        for (MappedRelationship mappedRelationship : registeredRelationships.incoming(tgt, relationshipType)) {
+            deregisterRelationship(mappedRelationship);
         }
     }
-}
\ No newline at end of file
+}
@@ -21,15 +21,22 @@ package org.neo4j.ogm.cypher.compiler;
 import org.neo4j.ogm.entityaccess.EntityAccessStrategy;
 import org.neo4j.ogm.entityaccess.PropertyReader;
 import org.neo4j.ogm.metadata.info.ClassInfo;
+import org.neo4j.ogm.metadata.info.FieldInfo;
 
 import java.util.Map;
 import java.util.Set;
 
 /**
  * Renders Cypher appropriate for a new node that needs creating in the database.
+ *
+ * If the node's class has a unique index field with a value, the node is merged on that value instead,
+ * so that saving a new object whose business key already exists in the database updates the existing node.
  */
 class NewNodeBuilder extends NodeBuilder {
 
+    private String mergeLabel;
+    private String mergeKey;
+
     NewNodeBuilder(String variableName) {
         super(variableName);
     }
@@ -42,9 +49,48 @@ class NewNodeBuilder extends NodeBuilder {
                 addProperty(propertyReader.propertyName(), value);
             }
         }
+        FieldInfo uniqueIndexField = classInfo.uniqueIndexField();
+        if (uniqueIndexField != null && this.props.get(uniqueIndexField.property()) != null) {
+            this.mergeLabel = classInfo.uniqueIndexLabel();
+            this.mergeKey = uniqueIndexField.property();
+        }
         return this;
     }
 
+    /**
+     * @return true if this node is to be merged on its unique index field rather than created
+     */
+    boolean isMerge() {
+        return mergeLabel != null;
+    }
+
+    /**
+     * Renders a MERGE clause that matches or creates this node by its unique index field, then sets its labels and properties.
+     */
+    boolean emitMerge(StringBuilder queryBuilder, Map<String, Object> parameters, Set<String> varStack) {
+
+        if (!varStack.isEmpty()) {
+            queryBuilder.append(" WITH ").append(toCsv(varStack));
+        }
+
+        queryBuilder.append(" MERGE (").append(this.reference()).append(":`").append(mergeLabel).append("`{`")
+                .append(mergeKey).append("`:{").append(this.reference()).append("_key}})");
+        parameters.put(this.reference() + "_key", this.props.get(mergeKey));
+
+        queryBuilder.append(" SET ").append(this.reference()).append("+={").append(this.reference()).append("_props}");
+        parameters.put(this.reference() + "_props", this.props);
+        if (!this.labels.isEmpty()) {
+            queryBuilder.append(", ").append(this.reference());
+            for (String label : this.labels) {
+                queryBuilder.append(":`").append(label).append('`');
+            }
+        }
+
+        varStack.add(this.reference());
+
+        return true;
+    }
+
     @Override
     public boolean emit(StringBuilder queryBuilder, Map<String, Object> parameters, Set<String> varStack) {
 
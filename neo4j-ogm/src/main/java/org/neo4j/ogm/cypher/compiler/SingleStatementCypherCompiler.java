@@ -94,11 +94,23 @@ public class SingleStatementCypherCompiler implements CypherCompiler {
 
         Map<String, Object> parameters = new HashMap<>();
 
+        // new nodes with a unique business key are merged on it, the rest are created
+        List<NewNodeBuilder> createdNodes = new ArrayList<>();
+        List<NewNodeBuilder> mergedNodes = new ArrayList<>();
+        for (CypherEmitter emitter : this.newNodes) {
+            NewNodeBuilder node = (NewNodeBuilder) emitter;
+            if (node.isMerge()) {
+                mergedNodes.add(node);
+            } else {
+                createdNodes.add(node);
+            }
+        }
+
         // all create statements can be done in a single clause.
-        if (! this.newNodes.isEmpty() ) {
+        if (! createdNodes.isEmpty() ) {
             queryBuilder.append(" CREATE ");
-            for (Iterator<CypherEmitter> it = this.newNodes.iterator() ; it.hasNext() ; ) {
-                NodeBuilder node = (NodeBuilder) it.next();
+            for (Iterator<NewNodeBuilder> it = createdNodes.iterator() ; it.hasNext() ; ) {
+                NodeBuilder node = it.next();
                 if (node.emit(queryBuilder, parameters, varStack)) {
                     newStack.add(node.reference());  // for the return clause
                     if (it.hasNext()) {
@@ -108,6 +120,12 @@ public class SingleStatementCypherCompiler implements CypherCompiler {
             }
         }
 
+        for (NewNodeBuilder node : mergedNodes) {
+            if (node.emitMerge(queryBuilder, parameters, varStack)) {
+                newStack.add(node.reference());  // for the return clause
+            }
+        }
+
         for (CypherEmitter emitter : updatedNodes) {
             emitter.emit(queryBuilder, parameters, varStack);
         }
@@ -29,7 +29,10 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Default implementation of {@link EntityAccessStrategy} that looks up information from {@link ClassInfo} in the following order.
@@ -47,6 +50,102 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
 
     private final Logger logger = LoggerFactory.getLogger(DefaultEntityAccessStrategy.class);
 
+    private final ConcurrentMap<ClassInfo, AccessorTable> accessorTables = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ClassInfo, Object> generatedPropertyAccess = new ConcurrentHashMap<>();
+
+    /**
+     * The accessors of a single class, each resolved on first use and then kept, including the fact that there isn't one.
+     * All the accessors are stateless, so a table can be shared by every thread using this strategy. Two threads may
+     * occasionally resolve the same accessor at once, in which case either result can be kept.
+     */
+    private static final class AccessorTable {
+
+        private volatile PropertyReader identityPropertyReader;
+        private volatile Collection<PropertyReader> propertyReaders;
+        private volatile Collection<RelationalReader> relationalReaders;
+        private volatile RelationalReader startNodeReader;
+        private volatile RelationalReader endNodeReader;
+
+        private final ConcurrentMap<String, Object> propertyWriters = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, Object> propertyReadersByName = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, Object> relationalReadersByType = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, ConcurrentMap<Class<?>, Object>> relationalWriters = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Class<?>, Object> iterableWriters = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Class<?>, Object> iterableReaders = new ConcurrentHashMap<>();
+    }
+
+    /** Marks a lookup that was resolved but found no accessor, because the concurrent maps can't hold null. */
+    private static final Object NONE = new Object();
+
+    private AccessorTable accessorTable(ClassInfo classInfo) {
+        AccessorTable accessorTable = accessorTables.get(classInfo);
+        if (accessorTable == null) {
+            accessorTable = new AccessorTable();
+            AccessorTable existing = accessorTables.putIfAbsent(classInfo, accessorTable);
+            if (existing != null) {
+                accessorTable = existing;
+            }
+        }
+        return accessorTable;
+    }
+
+    private static <K> Object remember(ConcurrentMap<K, Object> accessors, K key, Object accessor) {
+        Object existing = accessors.putIfAbsent(key, accessor == null ? NONE : accessor);
+        return existing != null ? existing : accessor;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T accessor(Object cached) {
+        return cached == NONE ? null : (T) cached;
+    }
+
+    /**
+     * Finds the {@link GeneratedPropertyAccess} for the given class, if one was generated at build time
+     */
+    private GeneratedPropertyAccess generatedPropertyAccess(ClassInfo classInfo) {
+        Object access = generatedPropertyAccess.get(classInfo);
+        if (access == null) {
+            access = remember(generatedPropertyAccess, classInfo, loadGeneratedPropertyAccess(classInfo));
+        }
+        return accessor(access);
+    }
+
+    private GeneratedPropertyAccess loadGeneratedPropertyAccess(ClassInfo classInfo) {
+        String className = classInfo.name();
+        int packageEnd = className.lastIndexOf('.');
+        String accessClassName = className.substring(0, packageEnd + 1)
+                + className.substring(packageEnd + 1).replace('$', '_') + GeneratedPropertyAccess.CLASS_NAME_SUFFIX;
+        try {
+            ClassLoader classLoader = Class.forName(className).getClassLoader();
+            Object access = Class.forName(accessClassName, true, classLoader).newInstance();
+            if (access instanceof GeneratedPropertyAccess) {
+                logger.debug("Using generated property access for {}", className);
+                return (GeneratedPropertyAccess) access;
+            }
+        } catch (ClassNotFoundException cnfe) {
+            // nothing was generated for this class
+        } catch (Exception e) {
+            logger.warn("Unable to use generated property access {}: {}", accessClassName, e.getMessage());
+        }
+        return null;
+    }
+
+    private PropertyReader propertyFieldReader(ClassInfo classInfo, FieldInfo fieldInfo) {
+        GeneratedPropertyAccess access = generatedPropertyAccess(classInfo);
+        if (access != null && access.fields().contains(fieldInfo.getName())) {
+            return new GeneratedFieldReader(access, classInfo, fieldInfo);
+        }
+        return new FieldReader(classInfo, fieldInfo);
+    }
+
+    private EntityAccess propertyFieldWriter(ClassInfo classInfo, FieldInfo fieldInfo) {
+        GeneratedPropertyAccess access = generatedPropertyAccess(classInfo);
+        if (access != null && access.fields().contains(fieldInfo.getName())) {
+            return new GeneratedFieldWriter(access, classInfo, fieldInfo);
+        }
+        return new FieldWriter(classInfo, fieldInfo);
+    }
+
     /** Used internally to hide differences in object construction from strategy algorithm. */
     private static interface AccessorFactory<T> {
         T makeMethodAccessor(MethodInfo methodInfo);
@@ -54,7 +153,120 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
     }
 
     @Override
-    public EntityAccess getPropertyWriter(final ClassInfo classInfo, String propertyName) {
+    public PropertyReader getIdentityPropertyReader(ClassInfo classInfo) {
+        AccessorTable table = accessorTable(classInfo);
+        if (table.identityPropertyReader == null) {
+            table.identityPropertyReader = findIdentityPropertyReader(classInfo);
+        }
+        return table.identityPropertyReader;
+    }
+
+    @Override
+    public PropertyReader getPropertyReader(ClassInfo classInfo, String propertyName) {
+        AccessorTable table = accessorTable(classInfo);
+        Object reader = table.propertyReadersByName.get(propertyName);
+        if (reader == null) {
+            reader = remember(table.propertyReadersByName, propertyName, findPropertyReader(classInfo, propertyName));
+        }
+        return accessor(reader);
+    }
+
+    @Override
+    public EntityAccess getPropertyWriter(ClassInfo classInfo, String propertyName) {
+        AccessorTable table = accessorTable(classInfo);
+        Object writer = table.propertyWriters.get(propertyName);
+        if (writer == null) {
+            writer = remember(table.propertyWriters, propertyName, findPropertyWriter(classInfo, propertyName));
+        }
+        return accessor(writer);
+    }
+
+    @Override
+    public EntityAccess getRelationalWriter(ClassInfo classInfo, String relationshipType, Object parameter) {
+        AccessorTable table = accessorTable(classInfo);
+        ConcurrentMap<Class<?>, Object> writers = table.relationalWriters.get(relationshipType);
+        if (writers == null) {
+            writers = new ConcurrentHashMap<>();
+            ConcurrentMap<Class<?>, Object> existing = table.relationalWriters.putIfAbsent(relationshipType, writers);
+            if (existing != null) {
+                writers = existing;
+            }
+        }
+        Class<?> parameterType = parameter.getClass();
+        Object writer = writers.get(parameterType);
+        if (writer == null) {
+            writer = remember(writers, parameterType, findRelationalWriter(classInfo, relationshipType, parameterType));
+        }
+        return accessor(writer);
+    }
+
+    @Override
+    public RelationalReader getRelationalReader(ClassInfo classInfo, String relationshipType) {
+        AccessorTable table = accessorTable(classInfo);
+        Object reader = table.relationalReadersByType.get(relationshipType);
+        if (reader == null) {
+            reader = remember(table.relationalReadersByType, relationshipType, findRelationalReader(classInfo, relationshipType));
+        }
+        return accessor(reader);
+    }
+
+    @Override
+    public EntityAccess getIterableWriter(ClassInfo classInfo, Class<?> parameterType) {
+        AccessorTable table = accessorTable(classInfo);
+        Object writer = table.iterableWriters.get(parameterType);
+        if (writer == null) {
+            writer = remember(table.iterableWriters, parameterType, findIterableWriter(classInfo, parameterType));
+        }
+        return accessor(writer);
+    }
+
+    @Override
+    public RelationalReader getIterableReader(ClassInfo classInfo, Class<?> parameterType) {
+        AccessorTable table = accessorTable(classInfo);
+        Object reader = table.iterableReaders.get(parameterType);
+        if (reader == null) {
+            reader = remember(table.iterableReaders, parameterType, findIterableReader(classInfo, parameterType));
+        }
+        return accessor(reader);
+    }
+
+    @Override
+    public Collection<PropertyReader> getPropertyReaders(ClassInfo classInfo) {
+        AccessorTable table = accessorTable(classInfo);
+        if (table.propertyReaders == null) {
+            table.propertyReaders = findPropertyReaders(classInfo);
+        }
+        return table.propertyReaders;
+    }
+
+    @Override
+    public Collection<RelationalReader> getRelationalReaders(ClassInfo classInfo) {
+        AccessorTable table = accessorTable(classInfo);
+        if (table.relationalReaders == null) {
+            table.relationalReaders = findRelationalReaders(classInfo);
+        }
+        return table.relationalReaders;
+    }
+
+    @Override
+    public RelationalReader getEndNodeReader(ClassInfo relationshipEntityClassInfo) {
+        AccessorTable table = accessorTable(relationshipEntityClassInfo);
+        if (table.endNodeReader == null) {
+            table.endNodeReader = findEndNodeReader(relationshipEntityClassInfo);
+        }
+        return table.endNodeReader;
+    }
+
+    @Override
+    public RelationalReader getStartNodeReader(ClassInfo relationshipEntityClassInfo) {
+        AccessorTable table = accessorTable(relationshipEntityClassInfo);
+        if (table.startNodeReader == null) {
+            table.startNodeReader = findStartNodeReader(relationshipEntityClassInfo);
+        }
+        return table.startNodeReader;
+    }
+
+    private EntityAccess findPropertyWriter(final ClassInfo classInfo, String propertyName) {
         MethodInfo setterInfo = classInfo.propertySetter(propertyName);
         return determinePropertyAccessor(classInfo, propertyName, setterInfo, new AccessorFactory<EntityAccess>() {
             @Override
@@ -64,13 +276,12 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
 
             @Override
             public EntityAccess makeFieldAccessor(FieldInfo fieldInfo) {
-                return new FieldWriter(classInfo, fieldInfo);
+                return propertyFieldWriter(classInfo, fieldInfo);
             }
         });
     }
 
-    @Override
-    public PropertyReader getPropertyReader(final ClassInfo classInfo, String propertyName) {
+    private PropertyReader findPropertyReader(final ClassInfo classInfo, String propertyName) {
         MethodInfo getterInfo = classInfo.propertyGetter(propertyName);
         return determinePropertyAccessor(classInfo, propertyName, getterInfo, new AccessorFactory<PropertyReader>() {
             @Override
@@ -79,7 +290,7 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
             }
             @Override
             public PropertyReader makeFieldAccessor(FieldInfo fieldInfo) {
-                return new FieldReader(classInfo, fieldInfo);
+                return propertyFieldReader(classInfo, fieldInfo);
             }
         });
     }
@@ -105,22 +316,20 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
         return null;
     }
 
-    @Override
-    public EntityAccess getRelationalWriter(ClassInfo classInfo, String relationshipType, Object parameter) {
-
+    private EntityAccess findRelationalWriter(ClassInfo classInfo, String relationshipType, Class<?> parameterType) {
 
         // 1st, try to find a method annotated with the relationship type.
         MethodInfo methodInfo = classInfo.relationshipSetter(relationshipType);
         if (methodInfo != null && !methodInfo.getAnnotations().isEmpty()) {
             Class<?> setterParameterType = ClassUtils.getType(methodInfo.getDescriptor());
-            if (setterParameterType.isAssignableFrom(parameter.getClass())) {
+            if (setterParameterType.isAssignableFrom(parameterType)) {
                 return new MethodWriter(classInfo, methodInfo);
             }
         }
 
         // 2nd, try to find a field called or annotated as the neo4j relationship type
         FieldInfo fieldInfo = classInfo.relationshipField(relationshipType);
-        if (fieldInfo != null && !fieldInfo.getAnnotations().isEmpty() && fieldInfo.isTypeOf(parameter.getClass())) {
+        if (fieldInfo != null && !fieldInfo.getAnnotations().isEmpty() && fieldInfo.isTypeOf(parameterType)) {
             return new FieldWriter(classInfo, fieldInfo);
         }
 
@@ -128,25 +337,25 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
         methodInfo = classInfo.relationshipSetter(relationshipType);
         if (methodInfo != null) {
             Class<?> setterParameterType = ClassUtils.getType(methodInfo.getDescriptor());
-            if (setterParameterType.isAssignableFrom(parameter.getClass())) {
+            if (setterParameterType.isAssignableFrom(parameterType)) {
                 return new MethodWriter(classInfo, methodInfo);
             }
         }
 
         // 4th, try to find a "XYZ" field name where XYZ is derived from the relationship type
         fieldInfo = classInfo.relationshipField(relationshipType);
-        if (fieldInfo != null && fieldInfo.isTypeOf(parameter.getClass())) {
+        if (fieldInfo != null && fieldInfo.isTypeOf(parameterType)) {
             return new FieldWriter(classInfo, fieldInfo);
         }
 
         // 5th, try to find a single setter that takes the parameter
-        List<MethodInfo> methodInfos = classInfo.findSetters(parameter.getClass());
+        List<MethodInfo> methodInfos = classInfo.findSetters(parameterType);
         if (methodInfos.size() == 1) {
             return new MethodWriter(classInfo, methodInfos.iterator().next());
         }
 
         // 6th, try to find a field that shares the same type as the parameter
-        List<FieldInfo> fieldInfos = classInfo.findFields(parameter.getClass());
+        List<FieldInfo> fieldInfos = classInfo.findFields(parameterType);
         if (fieldInfos.size() == 1) {
             return new FieldWriter(classInfo, fieldInfos.iterator().next());
         }
@@ -154,8 +363,7 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
         return null;
     }
 
-    @Override
-    public RelationalReader getRelationalReader(ClassInfo classInfo, String relationshipType) {
+    private RelationalReader findRelationalReader(ClassInfo classInfo, String relationshipType) {
         // 1st, try to find a method annotated with the relationship type.
         MethodInfo methodInfo = classInfo.relationshipGetter(relationshipType);
         if (methodInfo != null && !methodInfo.getAnnotations().isEmpty()) {
@@ -182,8 +390,7 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
         return null;
     }
 
-    @Override
-    public Collection<PropertyReader> getPropertyReaders(ClassInfo classInfo) {
+    private Collection<PropertyReader> findPropertyReaders(ClassInfo classInfo) {
         // do we care about "implicit" fields?  i.e., setX/getX with no matching X field
 
         Collection<PropertyReader> readers = new ArrayList<>();
@@ -195,13 +402,12 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
                     continue;
                 }
             }
-            readers.add(new FieldReader(classInfo, fieldInfo));
+            readers.add(propertyFieldReader(classInfo, fieldInfo));
         }
-        return readers;
+        return Collections.unmodifiableCollection(readers);
     }
 
-    @Override
-    public Collection<RelationalReader> getRelationalReaders(ClassInfo classInfo) {
+    private Collection<RelationalReader> findRelationalReaders(ClassInfo classInfo) {
         Collection<RelationalReader> readers = new ArrayList<>();
         for (FieldInfo fieldInfo : classInfo.relationshipFields()) {
             MethodInfo getterInfo = classInfo.methodsInfo().get(inferGetterName(fieldInfo));
@@ -214,7 +420,7 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
             }
             readers.add(new FieldReader(classInfo, fieldInfo));
         }
-        return readers;
+        return Collections.unmodifiableCollection(readers);
     }
 
     private static String inferGetterName(FieldInfo fieldInfo) {
@@ -223,8 +429,7 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
         return getterNameBuilder.insert(0, "get").toString();
     }
 
-    @Override
-    public EntityAccess getIterableWriter(ClassInfo classInfo, Class<?> parameterType) {
+    private EntityAccess findIterableWriter(ClassInfo classInfo, Class<?> parameterType) {
         MethodInfo methodInfo = getIterableSetterMethodInfo(classInfo, parameterType);
         if (methodInfo != null) {
             return new MethodWriter(classInfo, methodInfo);
@@ -236,8 +441,7 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
         return null;
     }
 
-    @Override
-    public RelationalReader getIterableReader(ClassInfo classInfo, Class<?> parameterType) {
+    private RelationalReader findIterableReader(ClassInfo classInfo, Class<?> parameterType) {
         MethodInfo methodInfo = getIterableGetterMethodInfo(classInfo, parameterType);
         if (methodInfo != null) {
             return new MethodReader(classInfo, methodInfo);
@@ -249,27 +453,24 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
         return null;
     }
 
-    @Override
-    public PropertyReader getIdentityPropertyReader(ClassInfo classInfo) {
+    private PropertyReader findIdentityPropertyReader(ClassInfo classInfo) {
         return new FieldReader(classInfo, classInfo.identityField());
     }
 
-    @Override
-    public RelationalReader getEndNodeReader(ClassInfo relationshipEntityClassInfo) {
+    private RelationalReader findEndNodeReader(ClassInfo relationshipEntityClassInfo) {
         for (FieldInfo fieldInfo : relationshipEntityClassInfo.relationshipFields()) {
             if (fieldInfo.getAnnotations().get(EndNode.CLASS) != null) {
-                return getRelationalReader(relationshipEntityClassInfo, fieldInfo.getName());
+                return findRelationalReader(relationshipEntityClassInfo, fieldInfo.getName());
             }
         }
         logger.warn("Failed to find an @EndNode on " + relationshipEntityClassInfo);
         return null;
     }
 
-    @Override
-    public RelationalReader getStartNodeReader(ClassInfo relationshipEntityClassInfo) {
+    private RelationalReader findStartNodeReader(ClassInfo relationshipEntityClassInfo) {
         for (FieldInfo fieldInfo : relationshipEntityClassInfo.relationshipFields()) {
             if (fieldInfo.getAnnotations().get(StartNode.CLASS) != null) {
-                return getRelationalReader(relationshipEntityClassInfo, fieldInfo.getName());
+                return findRelationalReader(relationshipEntityClassInfo, fieldInfo.getName());
             }
         }
         logger.warn("Failed to find an @StartNode on " + relationshipEntityClassInfo);
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.neo4j.ogm.entityaccess;
+
+import org.neo4j.ogm.metadata.MappingException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+
+/**
+ * Instantiates domain classes through their zero-argument constructor, which may be non-public. The constructor is looked
+ * up once per class and invoked through a {@link MethodHandle}, falling back to reflection if no handle can be created.
+ */
+public class DefaultInstantiationStrategy implements InstantiationStrategy {
+
+    @Override
+    public <T> Instantiator<T> instantiatorFor(Class<T> type) {
+        try {
+            Constructor<T> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return new ConstructorInstantiator<>(constructor);
+        } catch (SecurityException | NoSuchMethodException e) {
+            throw new MappingException("Unable to instantiate class: " + type.getName(), e);
+        }
+    }
+
+    private static class ConstructorInstantiator<T> implements Instantiator<T> {
+
+        private final Constructor<T> constructor;
+        private final MethodHandle handle;
+
+        ConstructorInstantiator(Constructor<T> constructor) {
+            this.constructor = constructor;
+            this.handle = MemberHandles.constructor(constructor);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T newInstance() {
+            try {
+                if (handle != null) {
+                    return (T) (Object) handle.invokeExact();
+                }
+                return constructor.newInstance();
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new MappingException("Unable to instantiate class: " + constructor.getDeclaringClass().getName(), (Exception) t);
+            }
+        }
+    }
+}
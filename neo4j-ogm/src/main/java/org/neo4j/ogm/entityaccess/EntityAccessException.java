@@ -20,7 +20,7 @@ package org.neo4j.ogm.entityaccess;
 
 public class EntityAccessException extends RuntimeException {
 
-    public EntityAccessException(String msg, Exception cause) {
+    public EntityAccessException(String msg, Throwable cause) {
         super(msg, cause);
     }
 }
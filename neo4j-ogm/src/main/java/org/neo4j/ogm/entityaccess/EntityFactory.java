@@ -22,14 +22,29 @@ import org.neo4j.ogm.model.NodeModel;
 import org.neo4j.ogm.model.RelationshipModel;
 import org.neo4j.ogm.metadata.MappingException;
 import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metadata.Taxa;
 import org.neo4j.ogm.metadata.info.ClassInfo;
 
-import java.lang.reflect.Constructor;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+/**
+ * Creates the domain objects that nodes and relationships are mapped onto.
+ *
+ * The class to instantiate for a given set of labels, or a relationship type, is resolved once and remembered together
+ * with the {@link Instantiator} that creates it, so hydrating further nodes with the same labels needs neither class
+ * resolution nor constructor lookup. Instantiators are obtained from the registered {@link InstantiationStrategy}s, in
+ * the order they were added, before falling back to the {@link DefaultInstantiationStrategy}.
+ *
+ * This class is thread-safe and is normally shared through {@link MetaData#entityFactory()}.
+ */
 public class EntityFactory {
 
-    private final Map<String, String> taxaLeafClass = new HashMap<>();
+    private final ConcurrentMap<Taxa, Instantiator<?>> instantiators = new ConcurrentHashMap<>();
+    private final List<InstantiationStrategy> strategies = new CopyOnWriteArrayList<>();
+    private final InstantiationStrategy defaultStrategy = new DefaultInstantiationStrategy();
 
     private final MetaData metadata;
 
@@ -37,6 +52,17 @@ public class EntityFactory {
         this.metadata = metadata;
     }
 
+    /**
+     * Registers a strategy to be consulted, after those registered before it but ahead of the default zero-argument
+     * constructor strategy. Instantiators resolved so far are discarded so that the new strategy applies to every class.
+     *
+     * @param strategy the {@link InstantiationStrategy} to add
+     */
+    public void addInstantiationStrategy(InstantiationStrategy strategy) {
+        strategies.add(strategy);
+        instantiators.clear();
+    }
+
     /**
      * Constructs a new object based on the class mapped to the labels on the given {@link NodeModel}.  In the
      * case of multiple labels, only the one that identifies a class in the domain will be used, and if there
@@ -61,38 +87,63 @@ public class EntityFactory {
         return instantiateObjectFromTaxa(edgeModel.getType());
     }
 
+    /**
+     * Resolves the class mapped to the given labels or relationship type, and the {@link Instantiator} for it, without
+     * creating an instance, so that the first object created for these taxa doesn't have to.
+     *
+     * @param taxa the labels of a node, or the type of a relationship
+     * @return true if an instantiator is now ready for the taxa, false if they don't map to a class that can be instantiated
+     */
+    public boolean prepare(String... taxa) {
+        try {
+            instantiator(taxa);
+            return true;
+        } catch (MappingException e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
     private <T> T instantiateObjectFromTaxa(String... taxa) {
+        return (T) instantiator(taxa).newInstance();
+    }
+
+    private Instantiator<?> instantiator(String... taxa) {
 
         if (taxa.length == 0) {
             throw new MappingException("Cannot map to a class with no taxa by which to determine the class name.");
         }
 
-        String fqn = resolve(taxa);
+        Taxa key = Taxa.of(taxa);
+        Instantiator<?> instantiator = instantiators.get(key);
 
-        try {
-            @SuppressWarnings("unchecked")
-            Class<T> loadedClass = (Class<T>) Class.forName(fqn);
-            Constructor<T> defaultConstructor = loadedClass.getDeclaredConstructor();
-            defaultConstructor.setAccessible(true);
-            return defaultConstructor.newInstance();
-        } catch (SecurityException | IllegalArgumentException | ReflectiveOperationException e) {
-            throw new MappingException("Unable to instantiate class: " + fqn, e);
+        if (instantiator == null) {
+            instantiator = instantiatorFor(resolve(taxa));
+            instantiators.putIfAbsent(key.copy(), instantiator);
         }
+        return instantiator;
     }
 
-    private String resolve(String... taxa) {
-
-        String fqn = taxaLeafClass.get(Arrays.toString(taxa));
+    private Class<?> resolve(String... taxa) {
+        ClassInfo classInfo = metadata.resolve(taxa);
+        if (classInfo == null) {
+            throw new MappingException("Could not resolve a single base class from " + Arrays.toString(taxa));
+        }
+        try {
+            return Class.forName(classInfo.name());
+        } catch (ClassNotFoundException e) {
+            throw new MappingException("Unable to instantiate class: " + classInfo.name(), e);
+        }
+    }
 
-        if (fqn == null) {
-            ClassInfo classInfo = metadata.resolve(taxa);
-            if (classInfo != null) {
-                taxaLeafClass.put(Arrays.toString(taxa), fqn=classInfo.name());
-            } else {
-                throw new MappingException("Could not resolve a single base class from " + Arrays.toString(taxa));
+    private Instantiator<?> instantiatorFor(Class<?> type) {
+        for (InstantiationStrategy strategy : strategies) {
+            Instantiator<?> instantiator = strategy.instantiatorFor(type);
+            if (instantiator != null) {
+                return instantiator;
             }
         }
-        return fqn;
+        return defaultStrategy.instantiatorFor(type);
     }
 
-}
\ No newline at end of file
+}
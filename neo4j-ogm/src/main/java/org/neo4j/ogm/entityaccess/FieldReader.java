@@ -22,19 +22,45 @@ import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.metadata.info.ClassInfo;
 import org.neo4j.ogm.metadata.info.FieldInfo;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+
 public class FieldReader implements RelationalReader, PropertyReader {
 
-    private final ClassInfo classInfo;
     private final FieldInfo fieldInfo;
+    private final Field field;
+    // created on first use, see MemberHandles
+    private volatile boolean resolved;
+    private MethodHandle getter;
+    private MethodHandle convertingGetter;
 
     FieldReader(ClassInfo classInfo, FieldInfo fieldInfo) {
-        this.classInfo = classInfo;
         this.fieldInfo = fieldInfo;
+        this.field = classInfo.getField(fieldInfo);
     }
 
     @Override
     public Object read(Object instance) {
-        Object value = FieldWriter.read(classInfo.getField(fieldInfo), instance);
+        if (!resolved) {
+            resolveHandles();
+        }
+        if (convertingGetter != null) {
+            try {
+                return (Object) convertingGetter.invokeExact(instance);
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        }
+        Object value;
+        if (getter != null) {
+            try {
+                value = (Object) getter.invokeExact(instance);
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        } else {
+            value = FieldWriter.read(field, instance);
+        }
         if (fieldInfo.hasConverter()) {
             value = fieldInfo.converter().toGraphProperty(value);
         }
@@ -60,4 +86,9 @@ public class FieldReader implements RelationalReader, PropertyReader {
         }
     }
 
+    private void resolveHandles() {
+        getter = MemberHandles.getter(field);
+        convertingGetter = fieldInfo.hasConverter() ? MemberHandles.convertingGetter(field, fieldInfo.converter()) : null;
+        resolved = true;
+    }
 }
@@ -21,6 +21,7 @@ package org.neo4j.ogm.entityaccess;
 import org.neo4j.ogm.metadata.info.ClassInfo;
 import org.neo4j.ogm.metadata.info.FieldInfo;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 
 public class FieldWriter extends EntityAccess {
@@ -28,6 +29,10 @@ public class FieldWriter extends EntityAccess {
     private final FieldInfo fieldInfo;
     private final Field field;
     private final Class<?> fieldType;
+    // created on first use, see MemberHandles
+    private volatile boolean resolved;
+    private MethodHandle setter;
+    private MethodHandle convertingSetter;
 
     public FieldWriter(ClassInfo classInfo, FieldInfo fieldInfo) {
         this.fieldInfo = fieldInfo;
@@ -55,20 +60,35 @@ public class FieldWriter extends EntityAccess {
 
     @Override
     public void write(Object instance, Object value) {
+        if (!resolved) {
+            resolveHandles();
+        }
+        if (convertingSetter != null && value != null) {
+            try {
+                convertingSetter.invokeExact(instance, value);
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+            return;
+        }
         if (fieldInfo.hasConverter()) {
             value = fieldInfo.converter().toEntityAttribute(value);
         }
-        FieldWriter.write(field, instance, value);
+        if (setter != null && MemberHandles.accepts(fieldType, value)) {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        } else {
+            FieldWriter.write(field, instance, value);
+        }
     }
 
     @Override
     public Class<?> type() {
         if (fieldInfo.hasConverter()) {
-            try {
-                return fieldInfo.converter().getClass().getDeclaredMethod("toGraphProperty", fieldType).getReturnType();
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
+            return fieldInfo.converterInfo().graphType();
         }
         return fieldType;
     }
@@ -83,4 +103,9 @@ public class FieldWriter extends EntityAccess {
         return fieldInfo.relationshipDirection();
     }
 
+    private void resolveHandles() {
+        setter = MemberHandles.setter(field);
+        convertingSetter = fieldInfo.hasConverter() ? MemberHandles.convertingSetter(field, fieldInfo.converter()) : null;
+        resolved = true;
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.entityaccess;
+
+import org.neo4j.ogm.metadata.info.ClassInfo;
+import org.neo4j.ogm.metadata.info.FieldInfo;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Reads a property field through the domain class's {@link GeneratedPropertyAccess}, unless the field's converter is
+ * specialised for its primitive type, in which case the field is read by a handle that passes it to the converter unboxed.
+ */
+class GeneratedFieldReader implements PropertyReader {
+
+    private final GeneratedPropertyAccess access;
+    private final FieldInfo fieldInfo;
+    private final ClassInfo classInfo;
+    // created on first use, see MemberHandles
+    private volatile boolean resolved;
+    private MethodHandle convertingGetter;
+
+    GeneratedFieldReader(GeneratedPropertyAccess access, ClassInfo classInfo, FieldInfo fieldInfo) {
+        this.access = access;
+        this.fieldInfo = fieldInfo;
+        this.classInfo = classInfo;
+    }
+
+    @Override
+    public Object read(Object instance) {
+        if (!resolved) {
+            resolveHandles();
+        }
+        if (convertingGetter != null) {
+            try {
+                return (Object) convertingGetter.invokeExact(instance);
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        }
+        Object value = access.read(instance, fieldInfo.getName());
+        if (fieldInfo.hasConverter()) {
+            value = fieldInfo.converter().toGraphProperty(value);
+        }
+        return value;
+    }
+
+    @Override
+    public String propertyName() {
+        return fieldInfo.property();
+    }
+
+    private void resolveHandles() {
+        convertingGetter = fieldInfo.hasConverter() ? MemberHandles.convertingGetter(classInfo.getField(fieldInfo), fieldInfo.converter()) : null;
+        resolved = true;
+    }
+}
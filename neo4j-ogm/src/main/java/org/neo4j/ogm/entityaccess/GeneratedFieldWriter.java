@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.entityaccess;
+
+import org.neo4j.ogm.metadata.info.ClassInfo;
+import org.neo4j.ogm.metadata.info.FieldInfo;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Writes a property field through the domain class's {@link GeneratedPropertyAccess}, using a {@link FieldWriter} for
+ * values that need converting to the field's type. A field whose converter is specialised for its primitive type is
+ * instead written by a handle that takes the converted value unboxed.
+ */
+class GeneratedFieldWriter extends EntityAccess {
+
+    private final GeneratedPropertyAccess access;
+    private final FieldInfo fieldInfo;
+    private final FieldWriter fieldWriter;
+    private final ClassInfo classInfo;
+    // created on first use, see MemberHandles
+    private volatile boolean resolved;
+    private MethodHandle convertingSetter;
+
+    GeneratedFieldWriter(GeneratedPropertyAccess access, ClassInfo classInfo, FieldInfo fieldInfo) {
+        this.access = access;
+        this.fieldInfo = fieldInfo;
+        this.fieldWriter = new FieldWriter(classInfo, fieldInfo);
+        this.classInfo = classInfo;
+    }
+
+    @Override
+    public void write(Object instance, Object value) {
+        if (!resolved) {
+            resolveHandles();
+        }
+        if (convertingSetter != null && value != null) {
+            try {
+                convertingSetter.invokeExact(instance, value);
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+            return;
+        }
+        Object fieldValue = fieldInfo.hasConverter() ? fieldInfo.converter().toEntityAttribute(value) : value;
+        if (!access.write(instance, fieldInfo.getName(), fieldValue)) {
+            fieldWriter.write(instance, value);
+        }
+    }
+
+    @Override
+    public Class<?> type() {
+        return fieldWriter.type();
+    }
+
+    @Override
+    public String relationshipName() {
+        return fieldWriter.relationshipName();
+    }
+
+    @Override
+    public String relationshipDirection() {
+        return fieldWriter.relationshipDirection();
+    }
+
+    private void resolveHandles() {
+        convertingSetter = fieldInfo.hasConverter() ? MemberHandles.convertingSetter(classInfo.getField(fieldInfo), fieldInfo.converter()) : null;
+        resolved = true;
+    }
+}
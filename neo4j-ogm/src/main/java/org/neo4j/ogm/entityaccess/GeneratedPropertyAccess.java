@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.entityaccess;
+
+import java.util.Set;
+
+/**
+ * Reads and writes the fields of one domain class directly, without reflection. Implementations are generated at build time
+ * by the {@link org.neo4j.ogm.entityaccess.generator.PropertyAccessProcessor} into the package of the class they access,
+ * and are named after it with the {@link #CLASS_NAME_SUFFIX}. {@link DefaultEntityAccessStrategy} uses one whenever it is
+ * present on the classpath, and falls back to reflection for any field it doesn't access.
+ */
+public interface GeneratedPropertyAccess {
+
+    /**
+     * Appended to the binary name of a domain class, with any '$' replaced by '_', to name its generated access class.
+     */
+    static final String CLASS_NAME_SUFFIX = "_PropertyAccess";
+
+    /**
+     * @return the names of the fields that this class can read and write
+     */
+    Set<String> fields();
+
+    /**
+     * @param entity the instance of the domain class whose field to read
+     * @param field the name of the field
+     * @return the value of the field
+     */
+    Object read(Object entity, String field);
+
+    /**
+     * Sets the named field to the given value, if the value is assignable to the field's type without conversion.
+     *
+     * @param entity the instance of the domain class whose field to set
+     * @param field the name of the field
+     * @param value the value to set
+     * @return true if the field was set, false if the value must be converted by reflection instead
+     */
+    boolean write(Object entity, String field, Object value);
+}
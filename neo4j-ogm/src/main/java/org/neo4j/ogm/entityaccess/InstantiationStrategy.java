@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.neo4j.ogm.entityaccess;
+
+/**
+ * Service provider interface through which the {@link EntityFactory} obtains the {@link Instantiator} for a domain class.
+ * A strategy is consulted once per class and the instantiator it returns is reused for every subsequent instance, so a
+ * strategy may do expensive work up front, such as looking up a generated factory class.
+ */
+public interface InstantiationStrategy {
+
+    /**
+     * @param type the domain class to instantiate
+     * @return an {@link Instantiator} for the given class, or <code>null</code> if this strategy does not support it
+     */
+    <T> Instantiator<T> instantiatorFor(Class<T> type);
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.entityaccess;
+
+import org.neo4j.ogm.typeconversion.AttributeConverter;
+import org.neo4j.ogm.typeconversion.BooleanAttributeConverter;
+import org.neo4j.ogm.typeconversion.DoubleAttributeConverter;
+import org.neo4j.ogm.typeconversion.IntAttributeConverter;
+import org.neo4j.ogm.typeconversion.LongAttributeConverter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates {@link MethodHandle}s for reading and writing entity fields and invoking entity methods and constructors, adapted to take and return
+ * plain Objects so they can be called with <code>invokeExact</code>. Unlike reflective access, a handle performs its access
+ * checks once, when it is created, rather than on every call.
+ *
+ * Each factory method returns <code>null</code> if no handle can be created, in which case callers fall back to reflection.
+ * As many readers and writers are never used, they only create their handles when they are first used.
+ */
+final class MemberHandles {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR = MethodType.methodType(Object.class);
+
+    private static final Map<Class<?>, Class<?>> WRAPPERS = new HashMap<>();
+    private static final Map<Class<?>, Class<?>> PRIMITIVE_CONVERTERS = new HashMap<>();
+
+    static {
+        WRAPPERS.put(boolean.class, Boolean.class);
+        WRAPPERS.put(byte.class, Byte.class);
+        WRAPPERS.put(char.class, Character.class);
+        WRAPPERS.put(short.class, Short.class);
+        WRAPPERS.put(int.class, Integer.class);
+        WRAPPERS.put(long.class, Long.class);
+        WRAPPERS.put(float.class, Float.class);
+        WRAPPERS.put(double.class, Double.class);
+
+        PRIMITIVE_CONVERTERS.put(long.class, LongAttributeConverter.class);
+        PRIMITIVE_CONVERTERS.put(int.class, IntAttributeConverter.class);
+        PRIMITIVE_CONVERTERS.put(double.class, DoubleAttributeConverter.class);
+        PRIMITIVE_CONVERTERS.put(boolean.class, BooleanAttributeConverter.class);
+    }
+
+    private MemberHandles() {}
+
+    static MethodHandle getter(Field field) {
+        try {
+            field.setAccessible(true);
+            return LOOKUP.unreflectGetter(field).asType(GETTER);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    static MethodHandle setter(Field field) {
+        try {
+            field.setAccessible(true);
+            return LOOKUP.unreflectSetter(field).asType(SETTER);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    static MethodHandle getter(Method method) {
+        try {
+            method.setAccessible(true);
+            return LOOKUP.unreflect(method).asType(GETTER);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    static MethodHandle setter(Method method) {
+        try {
+            method.setAccessible(true);
+            return LOOKUP.unreflect(method).asType(SETTER);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    static MethodHandle constructor(Constructor<?> constructor) {
+        try {
+            constructor.setAccessible(true);
+            return LOOKUP.unreflectConstructor(constructor).asType(CONSTRUCTOR);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Combines a primitive field's getter with a converter specialised for the field's type, so the field's value is
+     * passed to the converter without being boxed.
+     *
+     * @return a handle returning the converted graph property, or <code>null</code> if the converter isn't specialised
+     * for the field's type
+     */
+    static MethodHandle convertingGetter(Field field, AttributeConverter<?, ?> converter) {
+        try {
+            MethodHandle fromAttribute = fromPrimitiveAttribute(field.getType(), converter);
+            if (fromAttribute == null) {
+                return null;
+            }
+            field.setAccessible(true);
+            return MethodHandles.filterReturnValue(LOOKUP.unreflectGetter(field), fromAttribute).asType(GETTER);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Combines a primitive field's setter with a converter specialised for the field's type, so the converted value is
+     * written to the field without being boxed.
+     *
+     * @return a handle taking the graph property, or <code>null</code> if the converter isn't specialised for the field's type
+     */
+    static MethodHandle convertingSetter(Field field, AttributeConverter<?, ?> converter) {
+        try {
+            MethodHandle toAttribute = toPrimitiveAttribute(field.getType(), converter);
+            if (toAttribute == null) {
+                return null;
+            }
+            field.setAccessible(true);
+            return MethodHandles.filterArguments(LOOKUP.unreflectSetter(field), 1, toAttribute).asType(SETTER);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * As {@link #convertingGetter(Field, AttributeConverter)}, for a getter method returning a primitive value.
+     */
+    static MethodHandle convertingGetter(Method method, AttributeConverter<?, ?> converter) {
+        try {
+            MethodHandle fromAttribute = fromPrimitiveAttribute(method.getReturnType(), converter);
+            if (fromAttribute == null) {
+                return null;
+            }
+            method.setAccessible(true);
+            return MethodHandles.filterReturnValue(LOOKUP.unreflect(method), fromAttribute).asType(GETTER);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * As {@link #convertingSetter(Field, AttributeConverter)}, for a setter method taking a primitive value.
+     */
+    static MethodHandle convertingSetter(Method method, AttributeConverter<?, ?> converter) {
+        try {
+            if (method.getParameterTypes().length != 1) {
+                return null;
+            }
+            MethodHandle toAttribute = toPrimitiveAttribute(method.getParameterTypes()[0], converter);
+            if (toAttribute == null) {
+                return null;
+            }
+            method.setAccessible(true);
+            return MethodHandles.filterArguments(LOOKUP.unreflect(method), 1, toAttribute).asType(SETTER);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // (type)Object, bound to the converter
+    private static MethodHandle fromPrimitiveAttribute(Class<?> type, AttributeConverter<?, ?> converter) throws ReflectiveOperationException {
+        Class<?> converterType = PRIMITIVE_CONVERTERS.get(type);
+        if (converterType == null || !converterType.isInstance(converter)) {
+            return null;
+        }
+        return LOOKUP.findVirtual(converterType, "fromPrimitiveAttribute", MethodType.methodType(Object.class, type)).bindTo(converter);
+    }
+
+    // (Object)type, bound to the converter
+    private static MethodHandle toPrimitiveAttribute(Class<?> type, AttributeConverter<?, ?> converter) throws ReflectiveOperationException {
+        Class<?> converterType = PRIMITIVE_CONVERTERS.get(type);
+        if (converterType == null || !converterType.isInstance(converter)) {
+            return null;
+        }
+        return LOOKUP.findVirtual(converterType, "toPrimitiveAttribute", MethodType.methodType(type, Object.class)).bindTo(converter);
+    }
+
+    /**
+     * A handle only accepts a value that can be cast to the type it writes, whereas reflection also unboxes and widens
+     * primitive values, so values that fail this check must be written reflectively.
+     *
+     * @param type the type of the field or setter parameter being written
+     * @param value the value to write
+     * @return true if a handle can write the value without a conversion
+     */
+    static boolean accepts(Class<?> type, Object value) {
+        if (type.isPrimitive()) {
+            return value != null && WRAPPERS.get(type) == value.getClass();
+        }
+        return value == null || type.isInstance(value);
+    }
+}
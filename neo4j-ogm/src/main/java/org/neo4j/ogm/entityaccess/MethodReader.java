@@ -22,19 +22,45 @@ import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.metadata.info.ClassInfo;
 import org.neo4j.ogm.metadata.info.MethodInfo;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+
 public class MethodReader implements RelationalReader, PropertyReader {
 
-    private final ClassInfo classInfo;
     private final MethodInfo methodInfo;
+    private final Method method;
+    // created on first use, see MemberHandles
+    private volatile boolean resolved;
+    private MethodHandle getter;
+    private MethodHandle convertingGetter;
 
     MethodReader(ClassInfo classInfo, MethodInfo methodInfo) {
-        this.classInfo = classInfo;
         this.methodInfo = methodInfo;
+        this.method = classInfo.getMethod(methodInfo);
     }
 
     @Override
     public Object read(Object instance) {
-        Object value = MethodWriter.read(classInfo.getMethod(methodInfo), instance);
+        if (!resolved) {
+            resolveHandles();
+        }
+        if (convertingGetter != null) {
+            try {
+                return (Object) convertingGetter.invokeExact(instance);
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        }
+        Object value;
+        if (getter != null) {
+            try {
+                value = (Object) getter.invokeExact(instance);
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        } else {
+            value = MethodWriter.read(method, instance);
+        }
         if (methodInfo.hasConverter()) {
             value = methodInfo.converter().toGraphProperty(value);
         }
@@ -60,4 +86,9 @@ public class MethodReader implements RelationalReader, PropertyReader {
         return methodInfo.property();
     }
 
+    private void resolveHandles() {
+        getter = MemberHandles.getter(method);
+        convertingGetter = methodInfo.hasConverter() ? MemberHandles.convertingGetter(method, methodInfo.converter()) : null;
+        resolved = true;
+    }
 }
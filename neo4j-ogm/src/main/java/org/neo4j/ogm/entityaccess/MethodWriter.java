@@ -22,6 +22,7 @@ import org.neo4j.ogm.metadata.ClassUtils;
 import org.neo4j.ogm.metadata.info.ClassInfo;
 import org.neo4j.ogm.metadata.info.MethodInfo;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 
 public class MethodWriter extends EntityAccess {
@@ -29,6 +30,10 @@ public class MethodWriter extends EntityAccess {
     private final MethodInfo setterMethodInfo;
     private final Class<?> parameterType;
     private final Method method;
+    // created on first use, see MemberHandles
+    private volatile boolean resolved;
+    private MethodHandle setter;
+    private MethodHandle convertingSetter;
 
     MethodWriter(ClassInfo classInfo, MethodInfo methodInfo) {
         this.setterMethodInfo = methodInfo;
@@ -57,20 +62,35 @@ public class MethodWriter extends EntityAccess {
 
     @Override
     public void write(Object instance, Object value) {
+        if (!resolved) {
+            resolveHandles();
+        }
+        if (convertingSetter != null && value != null) {
+            try {
+                convertingSetter.invokeExact(instance, value);
+            } catch (Throwable t) {
+                throw new EntityAccessException("Failed to invoke method '" + method.getName() + "'", t);
+            }
+            return;
+        }
         if (setterMethodInfo.hasConverter()) {
             value = setterMethodInfo.converter().toEntityAttribute(value);
         }
-        MethodWriter.write(method, instance, value);
+        if (setter != null && MemberHandles.accepts(parameterType, value)) {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (Throwable t) {
+                throw new EntityAccessException("Failed to invoke method '" + method.getName() + "'", t);
+            }
+        } else {
+            MethodWriter.write(method, instance, value);
+        }
     }
 
     @Override
     public Class<?> type() {
         if (setterMethodInfo.hasConverter()) {
-            try {
-                return setterMethodInfo.converter().getClass().getDeclaredMethod("toGraphProperty", parameterType).getReturnType();
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
+            return setterMethodInfo.converterInfo().graphType();
         }
         return parameterType;
     }
@@ -85,4 +105,9 @@ public class MethodWriter extends EntityAccess {
         return setterMethodInfo.relationshipDirection();
     }
 
+    private void resolveHandles() {
+        setter = MemberHandles.setter(method);
+        convertingSetter = setterMethodInfo.hasConverter() ? MemberHandles.convertingSetter(method, setterMethodInfo.converter()) : null;
+        resolved = true;
+    }
 }
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.entityaccess.generator;
+
+import org.neo4j.ogm.annotation.NodeEntity;
+import org.neo4j.ogm.annotation.RelationshipEntity;
+import org.neo4j.ogm.annotation.Transient;
+import org.neo4j.ogm.entityaccess.GeneratedPropertyAccess;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@link GeneratedPropertyAccess} for each class annotated with {@link NodeEntity} or {@link RelationshipEntity},
+ * so that its fields can be read and written during mapping without reflection.
+ *
+ * The generated class is placed in the package of the domain class, so it covers the non-private fields declared by the
+ * class and by any superclasses in the same package, as well as public fields inherited from elsewhere, except those hidden
+ * by a field of the same name further down the hierarchy. Static, final and transient fields, and fields whose type involves
+ * a type variable, are left to reflection.
+ *
+ * The processor is registered in <code>META-INF/services/javax.annotation.processing.Processor</code>, so javac runs it
+ * whenever the domain classes are compiled with this library on the classpath and annotation processing is enabled. If
+ * the compilation names its processors explicitly, add
+ * <code>-processor org.neo4j.ogm.entityaccess.generator.PropertyAccessProcessor</code> to them.
+ */
+@SupportedAnnotationTypes({NodeEntity.CLASS, RelationshipEntity.CLASS})
+public class PropertyAccessProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                if (type.getKind() == ElementKind.CLASS && isAccessible(type)) {
+                    generate(type);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)).replace('$', '_')
+                + GeneratedPropertyAccess.CLASS_NAME_SUFFIX;
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        Set<String> primitiveFields = new HashSet<>();
+        findAccessibleFields(type, packageName, fields, primitiveFields);
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(
+                packageName.isEmpty() ? simpleName : packageName + "." + simpleName, type).openWriter()) {
+            writer.write(source(packageName, simpleName, type.getQualifiedName().toString(), fields, primitiveFields));
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to generate " + simpleName + ": " + e.getMessage(), type);
+        }
+    }
+
+    /**
+     * Collects the names of the fields the generated class can access, each mapped to the type to which written values are
+     * cast, and notes which of them are primitive and so can't be set to null.
+     */
+    private void findAccessibleFields(TypeElement type, String packageName, Map<String, String> fields, Set<String> primitiveFields) {
+        // every field declared further down the hierarchy hides those of the same name above it, accessible or not
+        Set<String> declared = new HashSet<>();
+        for (TypeElement declaringType = type; declaringType != null; declaringType = superclass(declaringType)) {
+            boolean samePackage = processingEnv.getElementUtils().getPackageOf(declaringType).getQualifiedName().contentEquals(packageName);
+            for (VariableElement field : ElementFilter.fieldsIn(declaringType.getEnclosedElements())) {
+                String name = field.getSimpleName().toString();
+                Set<Modifier> modifiers = field.getModifiers();
+                if (!declared.add(name)
+                        || modifiers.contains(Modifier.STATIC)
+                        || modifiers.contains(Modifier.FINAL)
+                        || modifiers.contains(Modifier.TRANSIENT)
+                        || modifiers.contains(Modifier.PRIVATE)
+                        || !(samePackage || modifiers.contains(Modifier.PUBLIC))
+                        || isTransient(field)) {
+                    continue;
+                }
+                String castType = castType(field.asType());
+                if (castType != null) {
+                    fields.put(name, castType);
+                    if (field.asType().getKind().isPrimitive()) {
+                        primitiveFields.add(name);
+                    }
+                }
+            }
+        }
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement superType = (TypeElement) ((DeclaredType) superclass).asElement();
+        return superType.getQualifiedName().contentEquals("java.lang.Object") ? null : superType;
+    }
+
+    private String castType(TypeMirror fieldType) {
+        if (fieldType.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) fieldType).getQualifiedName().toString();
+        }
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(fieldType);
+        // a raw value can't be assigned to a field whose type is, or is an array of, a type variable
+        if (!processingEnv.getTypeUtils().isAssignable(erasure, fieldType)) {
+            return null;
+        }
+        return erasure.toString();
+    }
+
+    private static boolean isTransient(VariableElement field) {
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(Transient.CLASS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAccessible(TypeElement type) {
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+        }
+        return type.getNestingKind() == NestingKind.TOP_LEVEL || type.getNestingKind() == NestingKind.MEMBER;
+    }
+
+    private static String source(String packageName, String simpleName, String entityType, Map<String, String> fields, Set<String> primitiveFields) {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Generated by ").append(PropertyAccessProcessor.class.getName()).append(", do not edit.\n */\n");
+        source.append("public final class ").append(simpleName).append(" implements ").append(GeneratedPropertyAccess.class.getName()).append(" {\n\n");
+
+        source.append("    private static final java.util.Set<String> FIELDS = java.util.Collections.unmodifiableSet(new java.util.HashSet<String>(java.util.Arrays.<String>asList(");
+        for (Iterator<String> it = fields.keySet().iterator(); it.hasNext(); ) {
+            source.append('"').append(it.next()).append('"');
+            if (it.hasNext()) {
+                source.append(", ");
+            }
+        }
+        source.append(")));\n\n");
+
+        source.append("    @Override\n    public java.util.Set<String> fields() {\n        return FIELDS;\n    }\n\n");
+
+        source.append("    @Override\n    public Object read(Object entity, String field) {\n");
+        source.append("        ").append(entityType).append(" instance = (").append(entityType).append(") entity;\n");
+        source.append("        switch (field) {\n");
+        for (String field : fields.keySet()) {
+            source.append("            case \"").append(field).append("\": return instance.").append(field).append(";\n");
+        }
+        source.append("            default: throw new IllegalArgumentException(\"No accessible field: \" + field);\n");
+        source.append("        }\n    }\n\n");
+
+        source.append("    @Override\n    @SuppressWarnings(\"unchecked\")\n    public boolean write(Object entity, String field, Object value) {\n");
+        source.append("        ").append(entityType).append(" instance = (").append(entityType).append(") entity;\n");
+        source.append("        switch (field) {\n");
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            boolean primitive = primitiveFields.contains(field.getKey());
+            source.append("            case \"").append(field.getKey()).append("\":\n");
+            source.append("                if (").append(primitive ? "" : "value == null || ").append("value instanceof ").append(field.getValue()).append(") {\n");
+            source.append("                    instance.").append(field.getKey()).append(" = (").append(field.getValue()).append(") value;\n");
+            source.append("                    return true;\n");
+            source.append("                }\n");
+            source.append("                return false;\n");
+        }
+        source.append("            default: return false;\n");
+        source.append("        }\n    }\n}\n");
+        return source.toString();
+    }
+}
@@ -21,7 +21,6 @@ package org.neo4j.ogm.mapper;
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.cypher.compiler.*;
-import org.neo4j.ogm.entityaccess.DefaultEntityAccessStrategy;
 import org.neo4j.ogm.entityaccess.EntityAccessStrategy;
 import org.neo4j.ogm.entityaccess.PropertyReader;
 import org.neo4j.ogm.entityaccess.RelationalReader;
@@ -32,7 +31,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of {@link EntityToGraphMapper} that is driven by an instance of {@link MetaData}.
@@ -54,7 +54,7 @@ public class EntityGraphMapper implements EntityToGraphMapper {
     public EntityGraphMapper(MetaData metaData, MappingContext mappingContext) {
         this.metaData = metaData;
         this.mappingContext = mappingContext;
-        this.entityAccessStrategy = new DefaultEntityAccessStrategy();
+        this.entityAccessStrategy = metaData.entityAccessStrategy();
     }
 
     /**
@@ -74,16 +74,30 @@ public class EntityGraphMapper implements EntityToGraphMapper {
 
         CypherCompiler compiler = new SingleStatementCypherCompiler();
 
-        // add all the relationships we know about. This includes the relationships that
-        // won't be modified by the mapping request.
-        for (MappedRelationship mappedRelationship : mappingContext.mappedRelationships()) {
-            logger.debug("context-init: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-            compiler.context().registerRelationship(mappedRelationship);
+        mapRoot(entity, horizon, compiler);
+        deleteObsoleteRelationships(compiler);
+
+        return compiler.compile();
+    }
+
+    @Override
+    public CypherContext map(List<Map.Entry<Object, Integer>> entities) {
+
+        if (entities == null) {
+            throw new NullPointerException("Cannot map null objects");
         }
 
-        logger.info("context initialised with {} relationships", mappingContext.mappedRelationships().size());
+        CypherCompiler compiler = new SingleStatementCypherCompiler();
 
-        //compiler.context().registeredRelationships().addAll(mappingContext.mappedRelationships());
+        for (Map.Entry<Object, Integer> entry : entities) {
+            mapRoot(entry.getKey(), entry.getValue(), compiler);
+        }
+        deleteObsoleteRelationships(compiler);
+
+        return compiler.compile();
+    }
+
+    private void mapRoot(Object entity, int horizon, CypherCompiler compiler) {
 
         // if the map request is rooted on a relationship entity, we re-root it on the start node
         if (isRelationshipEntity(entity)) {
@@ -94,9 +108,6 @@ public class EntityGraphMapper implements EntityToGraphMapper {
         }
 
         mapEntity(entity, horizon, compiler);
-        deleteObsoleteRelationships(compiler);
-
-        return compiler.compile();
     }
 
 
@@ -104,39 +115,38 @@ public class EntityGraphMapper implements EntityToGraphMapper {
      * Detects object references (including from lists) that have been deleted in the domain.
      * These must be persisted as explicit requests to delete the corresponding relationship in the graph
      *
+     * Only the previously mapped relationships of the entities visited by this request are considered,
+     * so the cost of this check is proportional to the size of the request, not of the mapping context.
+     *
      * @param compiler the {@link CypherCompiler} instance.
      */
     private void deleteObsoleteRelationships(CypherCompiler compiler) {
         CypherContext context=compiler.context();
-        Iterator<MappedRelationship> mappedRelationshipIterator = mappingContext.mappedRelationships().iterator();
+        RelationshipRegister mappedRelationships = mappingContext.mappedRelationships();
 
-        while (mappedRelationshipIterator.hasNext()) {
-            MappedRelationship mappedRelationship = mappedRelationshipIterator.next();
-            if (!context.isRegisteredRelationship(mappedRelationship)) {
+        for (MappedRelationship mappedRelationship : context.deregisteredRelationships()) {
+            if (!context.isRegisteredRelationship(mappedRelationship) && mappedRelationships.contains(mappedRelationship)) {
                 logger.debug("context-del: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
                 compiler.unrelate("$" + mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), "$" + mappedRelationship.getEndNodeId());
-                //mappedRelationship.deactivate();
                 clearRelatedObjects(mappedRelationship.getStartNodeId());
-                mappedRelationshipIterator.remove();
+                mappedRelationships.remove(mappedRelationship);
             }
         }
     }
 
     private void clearRelatedObjects(Long node) {
-        for (MappedRelationship mappedRelationship : mappingContext.mappedRelationships()) {
-            if (mappedRelationship.getStartNodeId() == node || mappedRelationship.getEndNodeId() == node) {
-                Object dirty = mappingContext.get(mappedRelationship.getEndNodeId());
-                // forward
-                if (dirty != null) {
-                    logger.debug("flushing end node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-                    mappingContext.deregister(dirty, mappedRelationship.getEndNodeId());
-                }
-                // reverse
-                dirty = mappingContext.get(mappedRelationship.getStartNodeId());
-                if (dirty != null) {
-                    logger.debug("flushing start node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-                    mappingContext.deregister(dirty,  mappedRelationship.getStartNodeId());
-                }
+        for (MappedRelationship mappedRelationship : mappingContext.mappedRelationships().attachedTo(node)) {
+            Object dirty = mappingContext.get(mappedRelationship.getEndNodeId());
+            // forward
+            if (dirty != null) {
+                logger.debug("flushing end node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
+                mappingContext.deregister(dirty, mappedRelationship.getEndNodeId());
+            }
+            // reverse
+            dirty = mappingContext.get(mappedRelationship.getStartNodeId());
+            if (dirty != null) {
+                logger.debug("flushing start node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
+                mappingContext.deregister(dirty,  mappedRelationship.getStartNodeId());
             }
         }
     }
@@ -162,9 +172,14 @@ public class EntityGraphMapper implements EntityToGraphMapper {
 
         NodeBuilder nodeBuilder = getNodeBuilder(compiler, entity);
         if (nodeBuilder != null) {
-            update(entity, context, nodeBuilder);
+            boolean dirty = update(entity, context, nodeBuilder);
             if (horizon != 0) {
-                mapEntityReferences(entity, nodeBuilder, horizon - 1, compiler);
+                if (!dirty && isUnchanged(entity)) {
+                    mapUnchangedEntityReferences(entity, horizon - 1, compiler);
+                } else {
+                    mapEntityReferences(entity, nodeBuilder, horizon - 1, compiler);
+                    context.logRelationshipsOf(entity);
+                }
             } else {
                 logger.debug("at horizon: {} ", entity);
             }
@@ -172,19 +187,80 @@ public class EntityGraphMapper implements EntityToGraphMapper {
         return nodeBuilder;
     }
 
+    /**
+     * Determines whether the relationships of a clean, previously persisted entity are known to be
+     * unchanged since they were last synchronised with the graph. Entities related via relationship
+     * entities never qualify, because the relationship entities may have been modified independently.
+     *
+     * @param entity the domain object to check
+     * @return true if none of the entity's relationships need to be re-evaluated, false otherwise
+     */
+    private boolean isUnchanged(Object entity) {
+        if (mappingContext.hasChangedRelationships(entity)) {
+            return false;
+        }
+        ClassInfo classInfo = metaData.classInfo(entity);
+        if (entityAccessStrategy.getIdentityPropertyReader(classInfo).read(entity) == null) {
+            return false;
+        }
+        for (RelationalReader reader : entityAccessStrategy.getRelationalReaders(classInfo)) {
+            Object relatedObject = reader.read(entity);
+            if (relatedObject instanceof Iterable) {
+                for (Object tgtObject : (Iterable<?>) relatedObject) {
+                    if (isRelationshipEntity(tgtObject)) {
+                        return false;
+                    }
+                }
+            } else if (relatedObject != null && isRelationshipEntity(relatedObject)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Visits the objects related to an entity whose relationships are unchanged, without re-evaluating
+     * the relationships themselves. The related objects are still mapped, so that changes made to them,
+     * or further along the object graph, are detected.
+     *
+     * @param entity the entity whose relationships are unchanged
+     * @param horizon the depth in the tree. If this reaches 0, we stop mapping any deeper
+     * @param compiler the {@link CypherCompiler}
+     */
+    private void mapUnchangedEntityReferences(Object entity, int horizon, CypherCompiler compiler) {
+
+        logger.debug("relationships unchanged, visiting references declared by: {} ", entity);
+
+        for (RelationalReader reader : entityAccessStrategy.getRelationalReaders(metaData.classInfo(entity))) {
+            Object relatedObject = reader.read(entity);
+            if (relatedObject instanceof Iterable) {
+                for (Object tgtObject : (Iterable<?>) relatedObject) {
+                    if (tgtObject != null && tgtObject != entity) {
+                        mapEntity(tgtObject, horizon, compiler);
+                    }
+                }
+            } else if (relatedObject != null && relatedObject != entity) {
+                mapEntity(relatedObject, horizon, compiler);
+            }
+        }
+    }
+
     /**
      * Creates a new node or updates an existing one in the graph, if it has changed.
      *
      * @param entity the domain object to be persisted
      * @param context  the current {@link CypherContext}
      * @param nodeBuilder a {@link NodeBuilder} that knows how to compile node create/update cypher phrases
+     * @return true if the entity has changed, false otherwise
      */
-    private void update(Object entity, CypherContext context, NodeBuilder nodeBuilder) {
+    private boolean update(Object entity, CypherContext context, NodeBuilder nodeBuilder) {
         if (mappingContext.isDirty(entity)) {
             context.log(entity);
             ClassInfo classInfo = metaData.classInfo(entity);
             nodeBuilder.mapProperties(entity, classInfo, entityAccessStrategy);
+            return true;
         }
+        return false;
     }
 
     /**
@@ -261,7 +337,9 @@ public class EntityGraphMapper implements EntityToGraphMapper {
     }
 
     /**
-     * Clears the relationships in the compiler context for the object represented by srcIdentity
+     * Clears the relationships in the compiler context for the object represented by srcIdentity. The
+     * relationships of this type previously mapped for the object are marked as candidates for deletion;
+     * those that are still referenced by the object will be registered again as it is mapped.
      *
      * @param context the {@link CypherContext} for the current compiler instance
      * @param identity the id of the node at the the 'start' of the relationship
@@ -271,9 +349,15 @@ public class EntityGraphMapper implements EntityToGraphMapper {
         if (identity != null) {
             if (relationshipDirection.equals(Relationship.OUTGOING)) {
                 logger.info("context-del: ({})-[:{}]->()", identity, relationshipType);
+                for (MappedRelationship mappedRelationship : mappingContext.mappedRelationships().outgoing(identity, relationshipType)) {
+                    context.deregisterRelationship(mappedRelationship);
+                }
                 context.deregisterOutgoingRelationships(identity, relationshipType);
             } else {
                 logger.info("context-del: ()-[:{}]->({})", relationshipType, identity);
+                for (MappedRelationship mappedRelationship : mappingContext.mappedRelationships().incoming(identity, relationshipType)) {
+                    context.deregisterRelationship(mappedRelationship);
+                }
                 context.deregisterIncomingRelationships(identity, relationshipType);
             }
         }
@@ -19,16 +19,22 @@
 package org.neo4j.ogm.mapper;
 
 import org.neo4j.ogm.entityaccess.FieldWriter;
+import org.neo4j.ogm.entityaccess.RelationalReader;
 import org.neo4j.ogm.metadata.info.ClassInfo;
 import org.neo4j.ogm.metadata.info.FieldInfo;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class EntityMemo {
 
     private final Map<Object, Long> objectHash = new HashMap<>();
+    private final Map<Object, Object[]> relationshipTargets = new HashMap<>();
 
     // objects with no properties will always hash to this value.
     private static final long seed = 0xDEADBEEF / (11 * 257);
@@ -57,8 +63,54 @@ public class EntityMemo {
         return objectHash.containsKey(object) && hash(object, classInfo) == objectHash.get(object);
     }
 
+    /**
+     * records the objects currently referenced by the specified object's relationships, as
+     * read by the given readers, and maps the object to them. The object must not be null
+     * @param object the object whose related objects we want to record
+     * @param readers the readers of the object's relationships
+     */
+    public void rememberRelationships(Object object, Collection<RelationalReader> readers) {
+        relationshipTargets.put(object, relationshipTargets(object, readers));
+    }
+
+    /**
+     * determines whether the specified object's relationships refer to the same objects, compared by
+     * identity and in the same order, as when its relationships were last memorised.
+     *
+     * @param object the object whose relationships we want to check
+     * @param readers the readers of the object's relationships
+     * @return true if the object's relationships haven't changed since they were remembered, false otherwise
+     */
+    public boolean rememberedRelationships(Object object, Collection<RelationalReader> readers) {
+        Object[] remembered = relationshipTargets.get(object);
+        if (remembered == null) {
+            return false;
+        }
+        Object[] current = relationshipTargets(object, readers);
+        if (current.length != remembered.length) {
+            return false;
+        }
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] != remembered[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * discards everything memorised about the specified object
+     *
+     * @param object the object to forget
+     */
+    public void forget(Object object) {
+        objectHash.remove(object);
+        relationshipTargets.remove(object);
+    }
+
     public void clear() {
         objectHash.clear();
+        relationshipTargets.clear();
     }
 
     public boolean contains(Object o) {
@@ -78,6 +130,26 @@ public class EntityMemo {
         return hash;
     }
 
+    // the related objects of each reader are followed by the reader itself, which
+    // delimits them, so that a target cannot move between relationships unnoticed.
+    private static Object[] relationshipTargets(Object object, Collection<RelationalReader> readers) {
+        List<Object> targets = new ArrayList<>();
+        for (RelationalReader reader : readers) {
+            Object value = reader.read(object);
+            if (value instanceof Iterable) {
+                for (Object element : (Iterable<?>) value) {
+                    targets.add(element);
+                }
+            } else if (value != null && value.getClass().isArray() && !value.getClass().getComponentType().isPrimitive()) {
+                Collections.addAll(targets, (Object[]) value);
+            } else {
+                targets.add(value);
+            }
+            targets.add(reader);
+        }
+        return targets.toArray();
+    }
+
     private static long hash(String string) {
         long h = 1125899906842597L; // prime
         int len = string.length();
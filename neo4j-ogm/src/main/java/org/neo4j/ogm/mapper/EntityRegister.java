@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.mapper;
+
+/**
+ * A thread-safe map from graph ids to the objects mapped to them, keyed by primitive <code>long</code>s.
+ *
+ * The ids and objects are held in parallel arrays using open addressing with linear probing, rather than in an entry
+ * object per id. The arrays are kept between three eighths and three quarters full, so an entry costs between 16 and
+ * 32 bytes with compressed references, compared with about 64 for a
+ * <code>ConcurrentHashMap&lt;Long, Object&gt;</code> entry, its boxed key and its share of the table.
+ *
+ * The register is split into segments by id, each guarded by its own lock, so that threads mapping different
+ * entities rarely contend.
+ */
+public class EntityRegister {
+
+    private static final int SEGMENT_BITS = 4;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Segment[] segments = new Segment[1 << SEGMENT_BITS];
+
+    public EntityRegister() {
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * @param id the graph id
+     * @return the object registered with the given id, or <code>null</code> if there is none
+     */
+    public Object get(long id) {
+        return segmentFor(id).get(id, hash(id));
+    }
+
+    /**
+     * Registers the object with the given id unless another object is already registered with it.
+     *
+     * @param id the graph id
+     * @param entity the object to register, which may not be <code>null</code>
+     * @return the object already registered with the given id, or <code>null</code> if the given object was registered
+     */
+    public Object putIfAbsent(long id, Object entity) {
+        if (entity == null) {
+            throw new NullPointerException("Cannot register a null entity");
+        }
+        return segmentFor(id).putIfAbsent(id, hash(id), entity);
+    }
+
+    /**
+     * @param id the graph id
+     * @return the object that was registered with the given id, or <code>null</code> if there was none
+     */
+    public Object remove(long id) {
+        return segmentFor(id).remove(id, hash(id));
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    // graph ids are mostly allocated sequentially, so ids that are close together are spread over the segments
+    private Segment segmentFor(long id) {
+        return segments[(int) ((id * 0x9E3779B97F4A7C15L) >>> (64 - SEGMENT_BITS))];
+    }
+
+    // within a segment, as in a HashMap keyed by Long, ids that are close together keep their order, which keeps
+    // lookups of neighbouring ids in neighbouring slots
+    private static int hash(long id) {
+        int hash = (int) (id ^ (id >>> 32));
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * A part of the register, in which the slot for an id is chosen by the low bits of its hash.
+     * An empty slot has no entity; removals shift later entries back so that lookups can stop at the first empty slot.
+     */
+    private static final class Segment {
+
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private Object[] entities = new Object[INITIAL_CAPACITY];
+        private int size;
+
+        synchronized Object get(long id, int hash) {
+            int mask = ids.length - 1;
+            for (int slot = hash & mask; entities[slot] != null; slot = (slot + 1) & mask) {
+                if (ids[slot] == id) {
+                    return entities[slot];
+                }
+            }
+            return null;
+        }
+
+        synchronized Object putIfAbsent(long id, int hash, Object entity) {
+            int mask = ids.length - 1;
+            int slot = hash & mask;
+            for (; entities[slot] != null; slot = (slot + 1) & mask) {
+                if (ids[slot] == id) {
+                    return entities[slot];
+                }
+            }
+            ids[slot] = id;
+            entities[slot] = entity;
+            if (++size > ids.length - (ids.length >>> 2)) {
+                grow();
+            }
+            return null;
+        }
+
+        synchronized Object remove(long id, int hash) {
+            int mask = ids.length - 1;
+            for (int slot = hash & mask; entities[slot] != null; slot = (slot + 1) & mask) {
+                if (ids[slot] == id) {
+                    Object entity = entities[slot];
+                    delete(slot);
+                    return entity;
+                }
+            }
+            return null;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized void clear() {
+            ids = new long[INITIAL_CAPACITY];
+            entities = new Object[INITIAL_CAPACITY];
+            size = 0;
+        }
+
+        private void delete(int slot) {
+            int mask = ids.length - 1;
+            int empty = slot;
+            for (int next = (slot + 1) & mask; entities[next] != null; next = (next + 1) & mask) {
+                int home = hash(ids[next]) & mask;
+                // moves the entry back unless its home slot lies cyclically after the empty slot, up to where it is
+                boolean movable = empty <= next ? (home <= empty || home > next) : (home <= empty && home > next);
+                if (movable) {
+                    ids[empty] = ids[next];
+                    entities[empty] = entities[next];
+                    empty = next;
+                }
+            }
+            entities[empty] = null;
+            size--;
+        }
+
+        private void grow() {
+            long[] oldIds = ids;
+            Object[] oldEntities = entities;
+            ids = new long[oldIds.length << 1];
+            entities = new Object[oldIds.length << 1];
+            int mask = ids.length - 1;
+            for (int i = 0; i < oldIds.length; i++) {
+                if (oldEntities[i] != null) {
+                    int slot = hash(oldIds[i]) & mask;
+                    while (entities[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    ids[slot] = oldIds[i];
+                    entities[slot] = oldEntities[i];
+                }
+            }
+        }
+    }
+}
@@ -20,6 +20,9 @@ package org.neo4j.ogm.mapper;
 
 import org.neo4j.ogm.cypher.compiler.CypherContext;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Specification for an object-graph mapper, which can map arbitrary Java objects onto Cypher data manipulation queries.
  */
@@ -48,4 +51,15 @@ public interface EntityToGraphMapper {
      */
     CypherContext map(Object entity, int depth);
 
+    /**
+     * Processes several objects, each to its own depth, and produces a single coalesced set of Cypher queries to persist
+     * their state in Neo4j. Objects reachable from more than one of the given objects are only mapped once.
+     *
+     * @param entities The "root" nodes of the object graphs to persist, in order, each paired with the depth to which it should be traversed
+     * @return A {@link CypherContext} object containing the statements required to persist the given objects to Neo4j, along
+     *         with a representation of the changes to be made by the Cypher statements never <code>null</code>
+     * @throws NullPointerException if invoked with <code>null</code>
+     */
+    CypherContext map(List<Map.Entry<Object, Integer>> entities);
+
 }
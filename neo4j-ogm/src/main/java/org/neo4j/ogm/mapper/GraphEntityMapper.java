@@ -25,7 +25,6 @@ import java.util.Map.Entry;
 import java.util.Set;
 
 import org.neo4j.ogm.annotation.Relationship;
-import org.neo4j.ogm.entityaccess.DefaultEntityAccessStrategy;
 import org.neo4j.ogm.entityaccess.EntityAccess;
 import org.neo4j.ogm.entityaccess.EntityAccessStrategy;
 import org.neo4j.ogm.entityaccess.EntityFactory;
@@ -56,9 +55,9 @@ public class GraphEntityMapper implements GraphToEntityMapper<GraphModel> {
 
     public GraphEntityMapper(MetaData metaData, MappingContext mappingContext) {
         this.metadata = metaData;
-        this.entityFactory = new EntityFactory(metadata);
+        this.entityFactory = metaData.entityFactory();
         this.mappingContext = mappingContext;
-        this.entityAccessStrategy = new DefaultEntityAccessStrategy();
+        this.entityAccessStrategy = metaData.entityAccessStrategy();
     }
 
     @Override
@@ -18,7 +18,6 @@
 
 package org.neo4j.ogm.mapper;
 
-import org.neo4j.ogm.entityaccess.DefaultEntityAccessStrategy;
 import org.neo4j.ogm.entityaccess.EntityAccessStrategy;
 import org.neo4j.ogm.entityaccess.PropertyReader;
 import org.neo4j.ogm.metadata.MetaData;
@@ -26,17 +25,19 @@ import org.neo4j.ogm.metadata.info.ClassInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The MappingContext maintains a map of all the objects created during the hydration
  * of an object map (domain hierarchy). The MappingContext lifetime is concurrent
  * with a session lifetime.
+ *
+ * By default the MappingContext keeps every object it has mapped until it is cleared. It can instead be given a
+ * capacity, see {@link #setCapacity(int)}, in which case {@link #evict()} purges the least recently used node entities
+ * that have not been modified since they were last synchronised with the graph, as {@link #clear(Object)} would.
  */
 public class MappingContext {
 
@@ -48,34 +49,72 @@ public class MappingContext {
 
     private final Logger logger = LoggerFactory.getLogger(MappingContext.class);
 
-    private final ConcurrentMap<Long, Object> relationshipEntityRegister = new ConcurrentHashMap<>();
-    private final ConcurrentMap<Long, Object> nodeEntityRegister = new ConcurrentHashMap<>();
-    private final Set<MappedRelationship> relationshipRegister = new HashSet<>();
+    private final EntityRegister relationshipEntityRegister = new EntityRegister();
+    private final EntityRegister nodeEntityRegister = new EntityRegister();
+    private final RelationshipRegister relationshipRegister = new RelationshipRegister();
 
     /** register of all mapped entities of a specific type (including supertypes) */
     private final ConcurrentMap<Class<?>, Set<Object>> typeRegister = new ConcurrentHashMap<>();
     private final EntityMemo objectMemo = new EntityMemo();
 
+    /** ids of the registered node entities, from the least to the most recently used, maintained only while there is a capacity */
+    private final Map<Long, Boolean> lastUsed = new LinkedHashMap<>(16, 0.75f, true);
+    private volatile int capacity;
+    private final AtomicLong evictions = new AtomicLong();
+
     private final MetaData metaData;
-    private final EntityAccessStrategy entityAccessStrategy = new DefaultEntityAccessStrategy();
+    private final EntityAccessStrategy entityAccessStrategy;
 
     public MappingContext(MetaData metaData) {
         this.metaData = metaData;
+        this.entityAccessStrategy = metaData.entityAccessStrategy();
     }
 
     // these methods belong on the nodeEntityRegister
     public Object get(Long id) {
-        return nodeEntityRegister.get(id);
+        Object entity = nodeEntityRegister.get(id);
+        if (entity != null && capacity > 0) {
+            synchronized (lastUsed) {
+                lastUsed.get(id); // moves the id to the most recently used end
+            }
+        }
+        return entity;
     }
 
     public Object registerNodeEntity(Object entity, Long id) {
         //logger.info("registering entity: " + entity);
-        nodeEntityRegister.putIfAbsent(id, entity);
-        entity = nodeEntityRegister.get(id);
+        Object registered = nodeEntityRegister.putIfAbsent(id, entity);
+        if (registered != null) {
+            entity = registered;
+        }
+        if (capacity > 0) {
+            touch(id);
+        }
         registerTypes(entity.getClass(), entity);
         return entity;
     }
 
+    /**
+     * Registers a newly saved entity under the id of the node it was saved to. Unlike {@link #registerNodeEntity(Object, Long)},
+     * this replaces any other entity registered under that id, as there will be one if the new entity was merged into an
+     * existing node by its unique index. The replaced entity is purged along with its memorised state, so that the context
+     * never holds two objects for the same node, but the node's relationships are kept.
+     *
+     * @param entity the entity that was saved
+     * @param id the id of the node it was saved to
+     * @return the registered entity
+     */
+    public Object replaceNodeEntity(Object entity, Long id) {
+        Object registered = nodeEntityRegister.get(id);
+        if (registered != null && registered != entity) {
+            logger.debug("replacing {} with {} for node {}", registered, entity, id);
+            nodeEntityRegister.remove(id);
+            unregisterTypes(registered.getClass(), registered);
+            objectMemo.forget(registered);
+        }
+        return registerNodeEntity(entity, id);
+    }
+
     private void registerTypes(Class type, Object entity) {
         //logger.debug("registering " + entity + " as instance of " + type.getSimpleName());
         getAll(type).add(entity);
@@ -113,10 +152,12 @@ public class MappingContext {
         //logger.info("de-registering: " + entity);
         deregisterTypes(entity.getClass(), entity);
         nodeEntityRegister.remove(id);
+        forgetRecentUse(id);
     }
 
     public void replace(Object entity, Long id) {
         nodeEntityRegister.remove(id);
+        forgetRecentUse(id);
         registerNodeEntity(entity, id);
         remember(entity);
     }
@@ -140,12 +181,33 @@ public class MappingContext {
         return !objectMemo.remembered(entity, metaData.classInfo(entity));
     }
 
+    /**
+     * Records the objects currently referenced by the entity's relationships, once those
+     * relationships have been synchronised with the graph.
+     *
+     * @param entity the entity whose relationships have been persisted
+     */
+    public void rememberRelationships(Object entity) {
+        objectMemo.rememberRelationships(entity, entityAccessStrategy.getRelationalReaders(metaData.classInfo(entity)));
+    }
+
+    /**
+     * Determines whether the entity's relationships still refer to the same objects they
+     * referred to when {@link #rememberRelationships(Object)} was last invoked for it.
+     *
+     * @param entity the entity to check
+     * @return true if the entity's relationships may have changed, false otherwise
+     */
+    public boolean hasChangedRelationships(Object entity) {
+        return !objectMemo.rememberedRelationships(entity, entityAccessStrategy.getRelationalReaders(metaData.classInfo(entity)));
+    }
+
     // these methods belong on the relationship registry
     public boolean isRegisteredRelationship(MappedRelationship relationship) {
         return relationshipRegister.contains(relationship);
     }
 
-    public Set<MappedRelationship> mappedRelationships() {
+    public RelationshipRegister mappedRelationships() {
         return relationshipRegister;
     }
 
@@ -160,6 +222,147 @@ public class MappingContext {
         nodeEntityRegister.clear();
         typeRegister.clear();
         relationshipEntityRegister.clear();
+        synchronized (lastUsed) {
+            lastUsed.clear();
+        }
+    }
+
+    /**
+     * Limits the number of node entities kept once {@link #evict()} is called. Entities that have been modified since
+     * they were last loaded or saved are kept regardless, so the context may hold more entities than this.
+     *
+     * @param capacity the number of node entities to keep, or 0 to keep them all until the context is cleared
+     */
+    public void setCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        synchronized (lastUsed) {
+            if (capacity > 0 && this.capacity == 0) {
+                // nothing has been tracked so far, so the entities already registered are the first candidates
+                for (Object entity : allNodeEntities()) {
+                    Long id = (Long) entityAccessStrategy.getIdentityPropertyReader(metaData.classInfo(entity)).read(entity);
+                    if (id != null && nodeEntityRegister.get(id) == entity) {
+                        touch(id);
+                    }
+                }
+            } else if (capacity == 0) {
+                lastUsed.clear();
+            }
+            this.capacity = capacity;
+        }
+    }
+
+    /**
+     * Evicts the least recently used node entities beyond the capacity, provided their properties are unchanged since
+     * they were last loaded or saved, purging them as {@link #clear(Object)} does along with their memorised state.
+     * An evicted entity that is saved again is treated as modified, so all its properties are written. The relationships
+     * of an evicted entity are kept as long as the entity at their other end is still in the context, since saving that
+     * entity relies on them to find the relationships it no longer has. Modified entities that cannot be evicted are
+     * moved to the most recently used end, so that they are not examined again on every call.
+     *
+     * This is called once a request's results have been mapped, rather than while they are mapped, so that the entities
+     * being mapped are not evicted before the mapping is complete.
+     *
+     * @return the number of entities evicted
+     */
+    public int evict() {
+        if (capacity == 0) {
+            return 0;
+        }
+        int evicted = 0;
+        synchronized (lastUsed) {
+            int excess = lastUsed.size() - capacity;
+            if (excess <= 0) {
+                return 0;
+            }
+            List<Long> evictedIds = new ArrayList<>();
+            List<Long> modifiedIds = new ArrayList<>();
+            Iterator<Long> leastRecentlyUsed = lastUsed.keySet().iterator();
+            while (excess > 0 && leastRecentlyUsed.hasNext()) {
+                Long id = leastRecentlyUsed.next();
+                Object entity = nodeEntityRegister.get(id);
+                if (entity == null) {
+                    leastRecentlyUsed.remove();
+                    excess--;
+                } else if (isDirty(entity)) {
+                    modifiedIds.add(id);
+                } else {
+                    leastRecentlyUsed.remove();
+                    nodeEntityRegister.remove(id);
+                    unregisterTypes(entity.getClass(), entity);
+                    objectMemo.forget(entity);
+                    evictedIds.add(id);
+                    excess--;
+                    evicted++;
+                }
+            }
+            for (Long id : modifiedIds) {
+                lastUsed.get(id);
+            }
+            for (Long id : evictedIds) {
+                forgetRelationshipsOf(id);
+            }
+        }
+        if (evicted > 0) {
+            long total = evictions.addAndGet(evicted);
+            logger.debug("evicted {} entities from the mapping context, {} in total", evicted, total);
+        }
+        return evicted;
+    }
+
+    /**
+     * @return the number of entities evicted by {@link #evict()} since this context was created
+     */
+    public long evictions() {
+        return evictions.get();
+    }
+
+    private void touch(Long id) {
+        synchronized (lastUsed) {
+            lastUsed.put(id, Boolean.TRUE);
+        }
+    }
+
+    private void forgetRecentUse(Long id) {
+        if (capacity > 0) {
+            synchronized (lastUsed) {
+                lastUsed.remove(id);
+            }
+        }
+    }
+
+    // removes the relationships of an evicted node entity, unless the node at the other end is still registered
+    private void forgetRelationshipsOf(Long id) {
+        for (MappedRelationship relationship : relationshipRegister.attachedTo(id)) {
+            long otherId = relationship.getStartNodeId() == id ? relationship.getEndNodeId() : relationship.getStartNodeId();
+            if (nodeEntityRegister.get(otherId) == null) {
+                relationshipRegister.remove(relationship);
+            }
+        }
+    }
+
+    private Set<Object> allNodeEntities() {
+        Set<Object> entities = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        for (Set<Object> entitiesOfType : typeRegister.values()) {
+            synchronized (entitiesOfType) {
+                entities.addAll(entitiesOfType);
+            }
+        }
+        return entities;
+    }
+
+    private void unregisterTypes(Class<?> type, Object entity) {
+        Set<Object> entities = typeRegister.get(type);
+        if (entities != null) {
+            entities.remove(entity);
+        }
+        if (type.getSuperclass() != null
+                && metaData != null
+                && metaData.classInfo(type.getSuperclass().getName()) != null
+                && !type.getSuperclass().getName().equals("java.lang.Object")) {
+            unregisterTypes(type.getSuperclass(), entity);
+        }
     }
 
 
@@ -202,6 +405,50 @@ public class MappingContext {
         getAll(type).remove(entity);
     }
 
+    /**
+     * purges all information about these objects from the mapping context
+     *
+     * @param entities the objects whose references and relationship mappings we want to purge
+     */
+    public void clearAll(Collection<?> entities) {
+        Map<Class<?>, List<Object>> entitiesByType = new HashMap<>();
+        for (Object entity : entities) {
+            List<Object> entitiesOfType = entitiesByType.get(entity.getClass());
+            if (entitiesOfType == null) {
+                entitiesOfType = new ArrayList<>();
+                entitiesByType.put(entity.getClass(), entitiesOfType);
+            }
+            entitiesOfType.add(entity);
+        }
+        for (Map.Entry<Class<?>, List<Object>> entry : entitiesByType.entrySet()) {
+            ClassInfo classInfo = metaData.classInfo(entry.getKey().getName());
+            PropertyReader identityReader = entityAccessStrategy.getIdentityPropertyReader(classInfo);
+            for (Object entity : entry.getValue()) {
+                purge(entity, identityReader);
+            }
+            getAll(entry.getKey()).removeAll(entry.getValue());
+        }
+    }
+
+    /**
+     * purges all information about the nodes with the supplied ids from the mapping context,
+     * whether or not they are mapped to objects
+     *
+     * @param nodeIds the ids of the nodes whose object references and relationship mappings we want to purge
+     */
+    public void clearNodes(Collection<Long> nodeIds) {
+        List<Object> entities = new ArrayList<>();
+        for (Long nodeId : nodeIds) {
+            Object entity = nodeEntityRegister.get(nodeId);
+            if (entity != null) {
+                entities.add(entity);
+            } else {
+                relationshipRegister.removeAttachedTo(nodeId);
+            }
+        }
+        clearAll(entities);
+    }
+
     private void purge(Object entity, PropertyReader identityReader) {
 
         // remove this object from the nodeEntity/relationshipEntity register (just try both)
@@ -210,15 +457,10 @@ public class MappingContext {
 
             nodeEntityRegister.remove(id);
             relationshipEntityRegister.remove(id);
+            forgetRecentUse(id);
 
             // remove all relationship mappings to/from this object
-            Iterator<MappedRelationship> mappedRelationshipIterator = mappedRelationships().iterator();
-            while (mappedRelationshipIterator.hasNext()) {
-                MappedRelationship mappedRelationship = mappedRelationshipIterator.next();
-                if (mappedRelationship.getStartNodeId() == id || mappedRelationship.getEndNodeId() == id) {
-                    mappedRelationshipIterator.remove();
-                }
-            }
+            relationshipRegister.removeAttachedTo(id);
         }
 
     }
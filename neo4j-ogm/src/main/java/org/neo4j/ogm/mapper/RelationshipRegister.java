@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.mapper;
+
+import java.util.*;
+
+/**
+ * A set of {@link MappedRelationship}s that is additionally indexed by start node id and end node id,
+ * so that the relationships attached to a given node can be found or removed without scanning the whole set.
+ *
+ * The indexes are maintained for every mutation, including removals made through the iterator.
+ * Query methods return snapshots, so callers may freely modify the register while iterating their results.
+ */
+public class RelationshipRegister extends AbstractSet<MappedRelationship> {
+
+    private final Set<MappedRelationship> relationships = new HashSet<>();
+
+    private final Map<Long, Set<MappedRelationship>> outgoing = new HashMap<>();
+    private final Map<Long, Set<MappedRelationship>> incoming = new HashMap<>();
+
+    @Override
+    public boolean add(MappedRelationship relationship) {
+        if (relationships.add(relationship)) {
+            index(outgoing, relationship.getStartNodeId(), relationship);
+            index(incoming, relationship.getEndNodeId(), relationship);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o instanceof MappedRelationship && relationships.remove(o)) {
+            unindex((MappedRelationship) o);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return relationships.contains(o);
+    }
+
+    @Override
+    public int size() {
+        return relationships.size();
+    }
+
+    @Override
+    public void clear() {
+        relationships.clear();
+        outgoing.clear();
+        incoming.clear();
+    }
+
+    @Override
+    public Iterator<MappedRelationship> iterator() {
+
+        final Iterator<MappedRelationship> iterator = relationships.iterator();
+
+        return new Iterator<MappedRelationship>() {
+
+            private MappedRelationship current;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public MappedRelationship next() {
+                current = iterator.next();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                unindex(current);
+                current = null;
+            }
+        };
+    }
+
+    /**
+     * @param startNodeId the id of the start node
+     * @return a snapshot of the relationships starting at the given node
+     */
+    public List<MappedRelationship> outgoing(long startNodeId) {
+        return snapshot(outgoing.get(startNodeId));
+    }
+
+    /**
+     * @param endNodeId the id of the end node
+     * @return a snapshot of the relationships ending at the given node
+     */
+    public List<MappedRelationship> incoming(long endNodeId) {
+        return snapshot(incoming.get(endNodeId));
+    }
+
+    /**
+     * @param startNodeId the id of the start node
+     * @param relationshipType the relationship type
+     * @return a snapshot of the relationships of the given type starting at the given node
+     */
+    public List<MappedRelationship> outgoing(long startNodeId, String relationshipType) {
+        return snapshot(outgoing.get(startNodeId), relationshipType);
+    }
+
+    /**
+     * @param endNodeId the id of the end node
+     * @param relationshipType the relationship type
+     * @return a snapshot of the relationships of the given type ending at the given node
+     */
+    public List<MappedRelationship> incoming(long endNodeId, String relationshipType) {
+        return snapshot(incoming.get(endNodeId), relationshipType);
+    }
+
+    /**
+     * @param nodeId the id of a node
+     * @return a snapshot of the relationships starting or ending at the given node
+     */
+    public List<MappedRelationship> attachedTo(long nodeId) {
+        List<MappedRelationship> attached = outgoing(nodeId);
+        Set<MappedRelationship> in = incoming.get(nodeId);
+        if (in != null) {
+            for (MappedRelationship relationship : in) {
+                // a self-relationship is already in the outgoing list
+                if (relationship.getStartNodeId() != nodeId) {
+                    attached.add(relationship);
+                }
+            }
+        }
+        return attached;
+    }
+
+    /**
+     * Removes all the relationships of the given type starting at the given node
+     *
+     * @param startNodeId the id of the start node
+     * @param relationshipType the relationship type
+     */
+    public void removeOutgoing(long startNodeId, String relationshipType) {
+        for (MappedRelationship relationship : outgoing(startNodeId, relationshipType)) {
+            remove(relationship);
+        }
+    }
+
+    /**
+     * Removes all the relationships of the given type ending at the given node
+     *
+     * @param endNodeId the id of the end node
+     * @param relationshipType the relationship type
+     */
+    public void removeIncoming(long endNodeId, String relationshipType) {
+        for (MappedRelationship relationship : incoming(endNodeId, relationshipType)) {
+            remove(relationship);
+        }
+    }
+
+    /**
+     * Removes all the relationships starting or ending at the given node
+     *
+     * @param nodeId the id of the node
+     */
+    public void removeAttachedTo(long nodeId) {
+        for (MappedRelationship relationship : attachedTo(nodeId)) {
+            remove(relationship);
+        }
+    }
+
+    private void unindex(MappedRelationship relationship) {
+        unindex(outgoing, relationship.getStartNodeId(), relationship);
+        unindex(incoming, relationship.getEndNodeId(), relationship);
+    }
+
+    private static void index(Map<Long, Set<MappedRelationship>> index, Long key, MappedRelationship relationship) {
+        Set<MappedRelationship> entries = index.get(key);
+        if (entries == null) {
+            entries = new HashSet<>();
+            index.put(key, entries);
+        }
+        entries.add(relationship);
+    }
+
+    private static void unindex(Map<Long, Set<MappedRelationship>> index, Long key, MappedRelationship relationship) {
+        Set<MappedRelationship> entries = index.get(key);
+        if (entries != null) {
+            entries.remove(relationship);
+            if (entries.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static List<MappedRelationship> snapshot(Set<MappedRelationship> entries) {
+        return entries == null ? new ArrayList<MappedRelationship>() : new ArrayList<>(entries);
+    }
+
+    private static List<MappedRelationship> snapshot(Set<MappedRelationship> entries, String relationshipType) {
+        List<MappedRelationship> snapshot = new ArrayList<>();
+        if (entries != null) {
+            for (MappedRelationship relationship : entries) {
+                if (relationship.getRelationshipType().equals(relationshipType)) {
+                    snapshot.add(relationship);
+                }
+            }
+        }
+        return snapshot;
+    }
+}
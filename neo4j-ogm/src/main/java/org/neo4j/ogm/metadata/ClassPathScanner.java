@@ -18,31 +18,79 @@
 
 package org.neo4j.ogm.metadata;
 
+import org.neo4j.ogm.metadata.index.ClassIndex;
 import org.neo4j.ogm.metadata.info.ClassFileProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
+/**
+ * Finds the class files in the requested packages and hands them to a {@link ClassFileProcessor}.
+ *
+ * The class files are first collected, from the class index or by walking the classpath, and then read and parsed.
+ * When there are enough of them, they are parsed in parallel on a fork-join pool bounded by the configured parallelism,
+ * so the processor must accept concurrent calls to {@link ClassFileProcessor#process(InputStream)}.
+ */
 public class ClassPathScanner {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClassPathScanner.class);
+
+    // the number of class files below which a task parses them itself rather than splitting them further
+    private static final int BATCH_SIZE = 32;
+
+    private final int parallelism;
+
     private List<String> classPaths;
     private ClassFileProcessor processor;
 
-    private void scanFile(File file, String relativePath) throws IOException {
+    private final List<ClassFile> classFiles = new ArrayList<>();
+    private final List<ZipFile> zipFiles = new ArrayList<>();
+
+    public ClassPathScanner() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param parallelism the maximum number of threads used to parse class files, 1 to parse them on the calling thread
+     */
+    public ClassPathScanner(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /** A class file that has been found but not yet read. */
+    private interface ClassFile {
+        InputStream open() throws IOException;
+    }
+
+    private void scanFile(final File file, String relativePath) {
         if (relativePath.endsWith(".class")) {
-            try (InputStream inputStream = new FileInputStream(file)) {
-                processor.process(inputStream);
-            }
+            classFiles.add(new ClassFile() {
+                @Override
+                public InputStream open() throws IOException {
+                    return new FileInputStream(file);
+                }
+            });
         }
     }
 
-    private void scanFolder(File folder, int prefixSize) throws IOException {
+    private void scanFolder(File folder, int prefixSize) {
 
         String absolutePath = folder.getPath();
         String relativePath = prefixSize > absolutePath.length() ? "" : absolutePath.substring(prefixSize);
@@ -54,30 +102,89 @@ public class ClassPathScanner {
                     scanFolder(subFile, prefixSize);
                 } else if (subFile.isFile()) {
                     String leafSuffix = "/" + subFile.getName();
-                    scanFile(subFile, relativePath + leafSuffix);
+                    if (inClassPaths(relativePath + leafSuffix)) {
+                        scanFile(subFile, relativePath + leafSuffix);
+                    }
                 }
             }
         }
     }
 
-    private void scanZipFile(final ZipFile zipFile) throws IOException {
+    /**
+     * Works out where the root of the classpath element holding the given package folder ends, so that the paths of
+     * the class files found in it can be matched against the requested packages.
+     */
+    private int prefixSize(File folder) {
+        String path = folder.getPath();
+        for (String classPath : classPaths) {
+            if (path.endsWith(File.separator + classPath)) {
+                return path.length() - classPath.length();
+            }
+        }
+        return path.length() + 1;
+    }
+
+    private boolean inClassPaths(String path) {
+        String normalisedPath = path.replace(File.separatorChar, '/');
+        for (String pathToScan : classPaths) {
+            if (normalisedPath.startsWith(pathToScan.replace(File.separatorChar, '/'))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void scanZipFile(final ZipFile zipFile) {
+
+        zipFiles.add(zipFile);
 
         for (Enumeration<? extends ZipEntry> entries = zipFile.entries(); entries.hasMoreElements();) {
             final ZipEntry entry = entries.nextElement();
             if (!entry.isDirectory()) {
                 String path = entry.getName();
-                boolean scanFile = false;
-                for (String pathToScan : classPaths) {
-                    if (path.startsWith(pathToScan)) {
-                        scanFile = true;
-                        break;
-                    }
+                if (path.endsWith(".class") && inClassPaths(path)) {
+                    classFiles.add(new ClassFile() {
+                        @Override
+                        public InputStream open() throws IOException {
+                            return zipFile.getInputStream(entry);
+                        }
+                    });
                 }
-                if (scanFile && path.endsWith(".class")) {
-                    try (InputStream inputStream = zipFile.getInputStream(entry)) {
-                        processor.process(inputStream);
-                    }
+            }
+        }
+    }
+
+    private void scanIndex(List<URL> indexedClassFiles) {
+        LOGGER.info("Reading " + indexedClassFiles.size() + " classes listed in the class index");
+        for (final URL classFile : indexedClassFiles) {
+            classFiles.add(new ClassFile() {
+                @Override
+                public InputStream open() throws IOException {
+                    return classFile.openStream();
                 }
+            });
+        }
+    }
+
+    private void process(ClassFile classFile) {
+        try (InputStream inputStream = classFile.open()) {
+            processor.process(inputStream);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void processAll() {
+        if (parallelism == 1 || classFiles.size() <= BATCH_SIZE) {
+            for (ClassFile classFile : classFiles) {
+                process(classFile);
+            }
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                pool.invoke(new ProcessClassFiles(0, classFiles.size()));
+            } finally {
+                pool.shutdown();
             }
         }
     }
@@ -88,23 +195,84 @@ public class ClassPathScanner {
         this.processor = processor;
 
         try {
-            for (File classPathElement : ClassUtils.getUniqueClasspathElements(classPaths)) {
-                String path = classPathElement.getPath();
-                if (classPathElement.isDirectory()) {
-                    scanFolder(classPathElement, path.length() + 1);
-                } else if (classPathElement.isFile()) {
-                    String pathLower = path.toLowerCase();
-                    if (pathLower.endsWith(".jar") || pathLower.endsWith(".zip")) {
-                        scanZipFile(new ZipFile(classPathElement));
-                    } else {
-                        scanFile(classPathElement, classPathElement.getName());
+            List<URL> indexedClassFiles = ClassIndex.classFiles(classPaths, ClassPathScanner.class.getClassLoader());
+            if (indexedClassFiles != null) {
+                scanIndex(indexedClassFiles);
+            } else {
+                List<File> classPathElements = ClassUtils.getUniqueClasspathElements(classPaths);
+                Set<File> scanned = new HashSet<>();
+                for (File classPathElement : classPathElements) {
+                    String path = classPathElement.getPath();
+                    if (!scanned.add(classPathElement) || isNested(classPathElement, classPathElements)) {
+                        continue; // the same jar or folder is returned for each requested package it holds
+                    }
+                    if (classPathElement.isDirectory()) {
+                        scanFolder(classPathElement, prefixSize(classPathElement));
+                    } else if (classPathElement.isFile()) {
+                        String pathLower = path.toLowerCase();
+                        if (pathLower.endsWith(".jar") || pathLower.endsWith(".zip")) {
+                            scanZipFile(new ZipFile(classPathElement));
+                        } else {
+                            scanFile(classPathElement, classPathElement.getName());
+                        }
                     }
                 }
             }
+            processAll();
             processor.validate();
             processor.finish();
         } catch (IOException e) {
             throw new RuntimeException(e);
+        } finally {
+            close();
+        }
+    }
+
+    private static boolean isNested(File folder, List<File> classPathElements) {
+        for (File classPathElement : classPathElements) {
+            if (classPathElement.isDirectory() && folder.getPath().startsWith(classPathElement.getPath() + File.separator)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void close() {
+        for (ZipFile zipFile : zipFiles) {
+            try {
+                zipFile.close();
+            } catch (IOException e) {
+                LOGGER.warn("Unable to close " + zipFile.getName(), e);
+            }
+        }
+        zipFiles.clear();
+        classFiles.clear();
+    }
+
+    /**
+     * Processes a range of the class files found, splitting it in two until it is small enough to process directly.
+     */
+    @SuppressWarnings("serial")
+    private class ProcessClassFiles extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+
+        ProcessClassFiles(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                for (int i = from; i < to; i++) {
+                    process(classFiles.get(i));
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ProcessClassFiles(from, middle), new ProcessClassFiles(middle, to));
+            }
         }
     }
 
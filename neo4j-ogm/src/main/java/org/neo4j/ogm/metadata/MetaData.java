@@ -18,8 +18,12 @@
 
 package org.neo4j.ogm.metadata;
 
-import org.neo4j.ogm.annotation.NodeEntity;
 import org.neo4j.ogm.annotation.RelationshipEntity;
+import org.neo4j.ogm.entityaccess.DefaultEntityAccessStrategy;
+import org.neo4j.ogm.entityaccess.EntityAccessStrategy;
+import org.neo4j.ogm.entityaccess.EntityFactory;
+import org.neo4j.ogm.entityaccess.PropertyReader;
+import org.neo4j.ogm.entityaccess.RelationalReader;
 import org.neo4j.ogm.metadata.info.AnnotationInfo;
 import org.neo4j.ogm.metadata.info.ClassInfo;
 import org.neo4j.ogm.metadata.info.DomainInfo;
@@ -30,17 +34,42 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class MetaData {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MetaData.class);
 
     private final DomainInfo domainInfo;
+    private final EntityAccessStrategy entityAccessStrategy = new DefaultEntityAccessStrategy();
+    private final EntityFactory entityFactory = new EntityFactory(this);
+    private final ConcurrentMap<Taxa, ClassInfo> resolvedTaxa = new ConcurrentHashMap<>();
 
     public MetaData(String... packages) {
         domainInfo = new DomainInfo(packages);
     }
 
+    /**
+     * Retrieves the strategy used to read and write the fields and properties of the domain classes. The strategy caches
+     * the accessors it resolves for each class, so it is shared by every session and mapper using this metadata.
+     *
+     * @return The {@link EntityAccessStrategy} for this metadata, never <code>null</code>
+     */
+    public EntityAccessStrategy entityAccessStrategy() {
+        return entityAccessStrategy;
+    }
+
+    /**
+     * Retrieves the factory that creates domain objects from nodes and relationships. The factory caches the class and
+     * instantiator it resolves for each set of labels, so it is shared by every mapper using this metadata.
+     *
+     * @return The {@link EntityFactory} for this metadata, never <code>null</code>
+     */
+    public EntityFactory entityFactory() {
+        return entityFactory;
+    }
+
     /**
      * Finds the ClassInfo for the supplied partial class name or label
      *
@@ -48,11 +77,11 @@ public class MetaData {
      * @return A ClassInfo matching the supplied name, or null if it doesn't exist
      */
     public ClassInfo classInfo(String name) {
-        ClassInfo classInfo = _classInfo(name, NodeEntity.class.getName(), "label");
+        ClassInfo classInfo = domainInfo.getClassInfoForLabel(name);
         if (classInfo != null) {
             return classInfo;
         }
-        classInfo = _classInfo(name, RelationshipEntity.class.getName(), "type");
+        classInfo = domainInfo.getClassInfoForRelationshipType(name);
         if (classInfo != null) {
             return classInfo;
         }
@@ -67,31 +96,103 @@ public class MetaData {
      * @return A ClassInfo matching the supplied object's class, or null if it doesn't exist
      */
     public ClassInfo classInfo(Object object) {
-        return classInfo(object.getClass().getName());
-    }
-
-    private ClassInfo _classInfo(String name, String nodeEntityAnnotation, String annotationPropertyName) {
-        List<ClassInfo> labelledClasses = domainInfo.getClassInfosWithAnnotation(nodeEntityAnnotation);
-        if (labelledClasses != null) {
-            for (ClassInfo labelledClass : labelledClasses) {
-                AnnotationInfo annotationInfo = labelledClass.annotationsInfo().get(nodeEntityAnnotation);
-                String value = annotationInfo.get(annotationPropertyName, labelledClass.label());
-                if (value.equals(name)) {
-                    return labelledClass;
-                }
-            }
+        ClassInfo classInfo = domainInfo.getClass(object.getClass().getName());
+        if (classInfo != null) {
+            return classInfo;
         }
-        return null;
+        return classInfo(object.getClass().getName());
     }
 
     /**
      * Given an set of names (simple or fully-qualified) that are possibly within a type hierarchy, this function returns the
      * base class from among them.
      *
+     * Resolved taxa are remembered for the lifetime of this metadata, so each distinct set of labels is resolved only once
+     * by all the sessions sharing it. Taxa that cannot be resolved are not remembered.
+     *
      * @param taxa the taxa (simple class names or labels)
      * @return The ClassInfo representing the base class among the taxa or <code>null</code> if it cannot be found
      */
     public ClassInfo resolve(String... taxa) {
+        Taxa key = Taxa.of(taxa);
+        ClassInfo classInfo = resolvedTaxa.get(key);
+        if (classInfo == null) {
+            classInfo = resolveBaseClass(taxa);
+            if (classInfo != null) {
+                resolvedTaxa.putIfAbsent(key.copy(), classInfo);
+            }
+        }
+        return classInfo;
+    }
+
+    /**
+     * Resolves, ahead of time, the labels of each node entity class and the type of each relationship entity class in
+     * the domain, so that loading the first instances of each class doesn't have to.
+     *
+     * @return the number of distinct taxa whose resolution is now remembered
+     */
+    public int resolveDomainTaxa() {
+        for (ClassInfo classInfo : domainInfo.getClassInfos()) {
+            if (classInfo.name() == null || classInfo.name().equals("java.lang.Object") || classInfo.isInterface() || classInfo.isEnum()) {
+                continue;
+            }
+            AnnotationInfo relationshipEntity = classInfo.annotationsInfo().get(RelationshipEntity.CLASS);
+            if (relationshipEntity != null) {
+                resolve(relationshipEntity.get(RelationshipEntity.TYPE, classInfo.label()));
+            } else if (!classInfo.labels().isEmpty()) {
+                resolve(classInfo.labels().toArray(new String[0]));
+            }
+        }
+        return resolvedTaxa.size();
+    }
+
+    /**
+     * Prepares, ahead of time, everything needed to map each concrete entity class in the domain: the accessors for its
+     * identity, properties and relationships, the resolution of its labels or relationship type, and the instantiator
+     * that creates it. Sessions then find all of these already cached rather than discovering them on first use.
+     *
+     * @return the number of entity classes prepared
+     */
+    public int warmUp() {
+        resolveDomainTaxa();
+        int prepared = 0;
+        for (ClassInfo classInfo : domainInfo.getClassInfos()) {
+            if (classInfo.name() == null || classInfo.name().equals("java.lang.Object")
+                    || classInfo.isInterface() || classInfo.isEnum() || classInfo.isAbstract()) {
+                continue;
+            }
+            try {
+                prepare(classInfo);
+                prepared++;
+            } catch (RuntimeException e) {
+                LOGGER.debug("Not preparing " + classInfo.name() + ": " + e.getMessage());
+            }
+        }
+        return prepared;
+    }
+
+    private void prepare(ClassInfo classInfo) {
+        entityAccessStrategy.getIdentityPropertyReader(classInfo);
+
+        for (PropertyReader propertyReader : entityAccessStrategy.getPropertyReaders(classInfo)) {
+            entityAccessStrategy.getPropertyReader(classInfo, propertyReader.propertyName());
+            entityAccessStrategy.getPropertyWriter(classInfo, propertyReader.propertyName());
+        }
+        for (RelationalReader relationalReader : entityAccessStrategy.getRelationalReaders(classInfo)) {
+            entityAccessStrategy.getRelationalReader(classInfo, relationalReader.relationshipType());
+        }
+
+        AnnotationInfo relationshipEntity = classInfo.annotationsInfo().get(RelationshipEntity.CLASS);
+        if (relationshipEntity != null) {
+            entityAccessStrategy.getStartNodeReader(classInfo);
+            entityAccessStrategy.getEndNodeReader(classInfo);
+            entityFactory.prepare(relationshipEntity.get(RelationshipEntity.TYPE, classInfo.label()));
+        } else {
+            entityFactory.prepare(classInfo.labels().toArray(new String[0]));
+        }
+    }
+
+    private ClassInfo resolveBaseClass(String... taxa) {
 
         if (taxa.length > 0) {
             Set<ClassInfo> baseClasses = new HashSet<>();
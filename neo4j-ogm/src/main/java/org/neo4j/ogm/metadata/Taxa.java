@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.neo4j.ogm.metadata;
+
+import java.util.Arrays;
+
+/**
+ * An ordered set of labels, or a single relationship type, used to look up the domain class it resolves to.
+ *
+ * The hash code is computed once. A key created by {@link #of(String...)} shares the given array, so looking up a label
+ * set read from the graph allocates nothing but the key itself; a key is only given its own copy of the labels, through
+ * {@link #copy()}, when it is stored.
+ */
+public final class Taxa {
+
+    private final String[] taxa;
+    private final int hash;
+
+    private Taxa(String[] taxa) {
+        this.taxa = taxa;
+        this.hash = Arrays.hashCode(taxa);
+    }
+
+    /**
+     * @param taxa the labels or relationship type, which must not be modified while the key is in use
+     * @return a key sharing the given array
+     */
+    public static Taxa of(String... taxa) {
+        return new Taxa(taxa);
+    }
+
+    /**
+     * @return a key equal to this one that owns a private copy of the labels
+     */
+    public Taxa copy() {
+        return new Taxa(taxa.clone());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Taxa && hash == ((Taxa) o).hash && Arrays.equals(taxa, ((Taxa) o).taxa);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(taxa);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.neo4j.ogm.metadata.index;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Reads the class indexes written at build time by the {@link ClassIndexProcessor}.
+ *
+ * Each classpath element may hold an index, at {@link #LOCATION}, listing the class files it contains. When every
+ * classpath element that holds one of the requested packages has an index, the class files in those packages can be
+ * read directly, without listing folders or walking through jar entries.
+ *
+ * An index that does not match the classpath element it describes, because it lists no class file in a requested
+ * package found there or lists a class file that no longer exists, is not used.
+ */
+public abstract class ClassIndex {
+
+    /**
+     * The location of the index within a classpath element. The index lists one class file per line, as a resource
+     * path relative to the root of the classpath element.
+     */
+    public static final String LOCATION = "META-INF/neo4j-ogm/classes.idx";
+
+    /**
+     * @param classPaths the resource paths of the packages to find, such as <code>org/neo4j/ogm/domain</code>
+     * @param classLoader the ClassLoader used to locate the packages and the indexes
+     * @return the URLs of the class files in the given packages and their sub-packages, or <code>null</code> if any
+     * classpath element holding one of these packages has no index or has an index that is out of date
+     */
+    public static List<URL> classFiles(List<String> classPaths, ClassLoader classLoader) {
+        try {
+            Map<String, URL> indexes = new HashMap<>();
+            for (Enumeration<URL> urls = classLoader.getResources(LOCATION); urls.hasMoreElements(); ) {
+                URL url = urls.nextElement();
+                indexes.put(root(url, LOCATION), url);
+            }
+            if (indexes.isEmpty()) {
+                return null;
+            }
+
+            Map<String, List<String>> packagesByRoot = new LinkedHashMap<>();
+            for (String classPath : classPaths) {
+                for (Enumeration<URL> urls = classLoader.getResources(classPath); urls.hasMoreElements(); ) {
+                    String root = root(urls.nextElement(), classPath);
+                    if (!indexes.containsKey(root)) {
+                        return null;
+                    }
+                    List<String> packages = packagesByRoot.get(root);
+                    if (packages == null) {
+                        packagesByRoot.put(root, packages = new ArrayList<>());
+                    }
+                    packages.add(classPath);
+                }
+            }
+
+            List<URL> classFiles = new ArrayList<>();
+            for (Map.Entry<String, List<String>> entry : packagesByRoot.entrySet()) {
+                Set<String> indexedPackages = new HashSet<>();
+                for (String classFile : read(indexes.get(entry.getKey()))) {
+                    for (String classPath : entry.getValue()) {
+                        if (classFile.startsWith(classPath)) {
+                            URL url = new URL(entry.getKey() + classFile);
+                            if (!exists(url)) {
+                                return null;
+                            }
+                            classFiles.add(url);
+                            indexedPackages.add(classPath);
+                            break;
+                        }
+                    }
+                }
+                if (indexedPackages.size() < new HashSet<>(entry.getValue()).size()) {
+                    return null;
+                }
+            }
+            return classFiles;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    // only class files in folders are checked, as a jar's index is written along with its entries
+    private static boolean exists(URL classFile) {
+        if (!"file".equals(classFile.getProtocol())) {
+            return true;
+        }
+        try {
+            return new File(classFile.toURI()).isFile();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String root(URL url, String path) {
+        String location = url.toString();
+        if (location.endsWith("/")) {
+            location = location.substring(0, location.length() - 1);
+        }
+        return location.substring(0, location.length() - path.length());
+    }
+
+    private static List<String> read(URL index) throws IOException {
+        List<String> classFiles = new ArrayList<>();
+        try (InputStream inputStream = index.openStream()) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.isEmpty()) {
+                    classFiles.add(line);
+                }
+            }
+        }
+        return classFiles;
+    }
+}
@@ -23,6 +23,12 @@ import java.io.InputStream;
 
 public interface ClassFileProcessor {
 
+    /**
+     * Processes a single class file. This may be called concurrently for different class files.
+     *
+     * @param inputStream the contents of the class file
+     * @throws IOException if the class file cannot be read
+     */
     void process(InputStream inputStream) throws IOException;
     void validate();
     void finish();
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.metadata.info;
+
+/**
+ * Decides, once the header of a class file has been read, whether the rest of it is worth parsing.
+ */
+interface ClassHeaderFilter {
+
+    /**
+     * @param header a ClassInfo holding only the name, superclass name, access flags and interfaces of the class
+     * @return true if the fields, methods and annotations of the class should be parsed too
+     */
+    boolean accept(ClassInfo header);
+
+}
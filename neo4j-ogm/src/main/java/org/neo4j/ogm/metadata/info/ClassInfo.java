@@ -28,6 +28,8 @@ import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Maintains object to graph mapping details at the class (type) level
@@ -58,6 +60,7 @@ public class ClassInfo {
     private boolean isAbstract;
     private boolean isEnum;
     private boolean hydrated;
+    private boolean rejected;
 
     private FieldsInfo fieldsInfo = new FieldsInfo();
     private MethodsInfo methodsInfo= new MethodsInfo();
@@ -70,8 +73,50 @@ public class ClassInfo {
     private final Set<InterfaceInfo> interfaces = new HashSet<>();
     private InterfacesInfo interfacesInfo = new InterfacesInfo();
 
+    // reflective lookups, resolved on first use once the domain has been loaded
+    private volatile Class<?> cls;
+    private volatile FieldInfo identityField;
+    private volatile UniqueIndex uniqueIndex;
+    private final ConcurrentMap<FieldInfo, Field> fieldCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MethodInfo, ResolvedMethod> methodCache = new ConcurrentHashMap<>();
+
+    /** A method found by {@link #getMethod(MethodInfo, Class[])}, together with the parameter types it was found by. */
+    private static class ResolvedMethod {
+
+        private final Method method;
+        private final Class<?>[] parameterTypes;
+
+        ResolvedMethod(Method method, Class<?>[] parameterTypes) {
+            this.method = method;
+            this.parameterTypes = parameterTypes;
+        }
+    }
+
+    /** The unique index field of a class and the label it is indexed on, both null if the class doesn't have one. */
+    private static class UniqueIndex {
+
+        private final FieldInfo field;
+        private final String label;
+
+        UniqueIndex(FieldInfo field, String label) {
+            this.field = field;
+            this.label = label;
+        }
+    }
+
     // todo move this to a factory class
     public ClassInfo(InputStream inputStream) throws IOException {
+        this(inputStream, null);
+    }
+
+    /**
+     * Reads a class file in two phases. The header, up to and including the interfaces, is read first and offered to the
+     * given filter; the fields, methods and annotations are only parsed if the filter accepts the class.
+     *
+     * @param inputStream the contents of the class file
+     * @param filter the filter deciding whether to parse the rest of the class file, or <code>null</code> to parse it all
+     */
+    ClassInfo(InputStream inputStream, ClassHeaderFilter filter) throws IOException {
 
         DataInputStream dataInputStream = new DataInputStream(new BufferedInputStream(inputStream, 1024));
 
@@ -98,6 +143,12 @@ public class ClassInfo {
             directSuperclassName = sce.replace('/', '.');
         }
         interfacesInfo = new InterfacesInfo(dataInputStream, constantPool);
+
+        if (filter != null && !filter.accept(this)) {
+            rejected = true;
+            return;
+        }
+
         fieldsInfo = new FieldsInfo(dataInputStream, constantPool);
         methodsInfo = new MethodsInfo(dataInputStream, constantPool);
         annotationsInfo = new AnnotationsInfo(dataInputStream, constantPool);
@@ -148,6 +199,11 @@ public class ClassInfo {
         return hydrated;
     }
 
+    /** @return true if only the header of this class was read, because a {@link ClassHeaderFilter} rejected it */
+    boolean rejected() {
+        return rejected;
+    }
+
     public String name() {
         return className;
     }
@@ -194,6 +250,10 @@ public class ClassInfo {
         return interfaces;
     }
 
+    InterfacesInfo interfacesInfo() {
+        return interfacesInfo;
+    }
+
     public Collection<AnnotationInfo> annotations() {
         return annotationsInfo.list();
     }
@@ -202,6 +262,10 @@ public class ClassInfo {
         return isInterface;
     }
 
+    public boolean isAbstract() {
+        return isAbstract;
+    }
+
     public boolean isEnum() {
         return isEnum;
     }
@@ -234,6 +298,13 @@ public class ClassInfo {
      * @throws MappingException if no identity field can be found
      */
     public FieldInfo identityField() {
+        if (identityField == null) {
+            identityField = findIdentityField();
+        }
+        return identityField;
+    }
+
+    private FieldInfo findIdentityField() {
         for (FieldInfo fieldInfo : fieldsInfo().fields()) {
             AnnotationInfo annotationInfo = fieldInfo.getAnnotations().get(GraphId.CLASS);
             if (annotationInfo != null) {
@@ -329,6 +400,54 @@ public class ClassInfo {
         return null;
     }
 
+    /**
+     * The unique index field is a property field annotated with @Index(unique=true). Its value identifies
+     * at most one node in the database, so it can be used as a business key when saving new entities.
+     *
+     * @return A FieldInfo object describing the unique index field, or null if there isn't one
+     */
+    public FieldInfo uniqueIndexField() {
+        return uniqueIndex().field;
+    }
+
+    private FieldInfo findUniqueIndexField() {
+        for (FieldInfo fieldInfo : propertyFields()) {
+            AnnotationInfo annotationInfo = fieldInfo.getAnnotations().get(Index.CLASS);
+            if (annotationInfo != null && !"0".equals(annotationInfo.get(Index.UNIQUE, "0"))) {
+                return fieldInfo;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the label on which the unique index field is indexed, which is the label of the most general
+     * class in the hierarchy that both declares the field and applies a label of its own.
+     *
+     * @return The label of the unique index, or null if this class doesn't have a unique index field
+     */
+    public String uniqueIndexLabel() {
+        return uniqueIndex().label;
+    }
+
+    private UniqueIndex uniqueIndex() {
+        if (uniqueIndex == null) {
+            FieldInfo uniqueIndexField = findUniqueIndexField();
+            uniqueIndex = new UniqueIndex(uniqueIndexField, uniqueIndexField == null ? null : findUniqueIndexLabel(uniqueIndexField));
+        }
+        return uniqueIndex;
+    }
+
+    private String findUniqueIndexLabel(FieldInfo uniqueIndexField) {
+        String label = null;
+        for (ClassInfo classInfo = this; classInfo != null && classInfo.fieldsInfo().get(uniqueIndexField.getName()) != null; classInfo = classInfo.directSuperclass) {
+            if (!classInfo.isAbstract || classInfo.annotationsInfo.get(NodeEntity.CLASS) != null) {
+                label = classInfo.label();
+            }
+        }
+        return label;
+    }
+
     /**
      * The identity getter is any getter annotated with @NodeId returning a Long, or if none exists, a getter
      * returning Long called 'getId'
@@ -546,37 +665,65 @@ public class ClassInfo {
     }
 
     /**
+     * Resolves the java.lang.reflect.Field described by the given FieldInfo, which may be declared by a superclass.
+     * Fields are resolved once and then cached.
      *
-     * @param fieldInfo
-     * @return
+     * @param fieldInfo the field to find
+     * @return the matching Field, never <code>null</code>
+     * @throws RuntimeException if neither this class nor any of its superclasses declares the field
      */
     public Field getField(FieldInfo fieldInfo) {
+        Field field = fieldCache.get(fieldInfo);
+        if (field == null) {
+            field = findField(fieldInfo);
+            fieldCache.putIfAbsent(fieldInfo, field);
+        }
+        return field;
+    }
+
+    private Field findField(FieldInfo fieldInfo) {
         try {
-            return Class.forName(name()).getDeclaredField(fieldInfo.getName());
+            return getType().getDeclaredField(fieldInfo.getName());
         } catch (NoSuchFieldException e) {
             if (directSuperclass() != null) {
                 return directSuperclass().getField(fieldInfo);
             } else {
                 throw new RuntimeException("Field " + fieldInfo.getName() + " not found in class " + name() + " or any of its superclasses");
             }
-        } catch (ClassNotFoundException e) {
-            throw new RuntimeException(e);
         }
-
     }
 
     /**
+     * Resolves the public java.lang.reflect.Method described by the given MethodInfo. Methods are resolved once and
+     * then cached.
      *
-     * @param methodInfo
-     * @param parameterTypes
-     * @return
+     * @param methodInfo the method to find
+     * @param parameterTypes the parameter types of the method
+     * @return the matching Method, never <code>null</code>
+     * @throws RuntimeException if the class has no such public method
      */
     public Method getMethod(MethodInfo methodInfo, Class... parameterTypes) {
-        try {
-            return Class.forName(name()).getMethod(methodInfo.getName(), parameterTypes);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+        ResolvedMethod resolved = methodCache.get(methodInfo);
+        if (resolved == null || !Arrays.equals(resolved.parameterTypes, parameterTypes)) {
+            try {
+                resolved = new ResolvedMethod(getType().getMethod(methodInfo.getName(), parameterTypes), parameterTypes.clone());
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+            methodCache.put(methodInfo, resolved);
+        }
+        return resolved.method;
+    }
+
+    private Class<?> getType() {
+        if (cls == null) {
+            try {
+                cls = Class.forName(name());
+            } catch (ClassNotFoundException e) {
+                throw new RuntimeException(e);
+            }
         }
+        return cls;
     }
 
     /**
@@ -18,9 +18,15 @@
 
 package org.neo4j.ogm.metadata.info;
 
+import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
+/**
+ * The constant pool of a class file. UTF-8 entries are kept as the raw bytes read from the class file and only
+ * decoded, once, when they are looked up, as most of them are never needed to build the metadata.
+ */
 class ConstantPool {
 
     private final Object[] pool;
@@ -34,15 +40,23 @@ class ConstantPool {
             final int flag = stream.readUnsignedByte();
             switch (flag) {
                 case ConstantPoolTags.UTF_8:
-                    pool[i] = stream.readUTF();
+                    byte[] bytes = new byte[stream.readUnsignedShort()];
+                    stream.readFully(bytes);
+                    pool[i] = bytes;
                     break;
                 case ConstantPoolTags.INTEGER:
+                    // also holds boolean, byte, char and short annotation element values
+                    pool[i] = String.valueOf(stream.readInt());
+                    break;
                 case ConstantPoolTags.FLOAT:
-                    stream.skipBytes(4);
+                    pool[i] = String.valueOf(stream.readFloat());
                     break;
                 case ConstantPoolTags.LONG:
+                    pool[i] = String.valueOf(stream.readLong());
+                    i++; // double slot
+                    break;
                 case ConstantPoolTags.DOUBLE:
-                    stream.skipBytes(8);
+                    pool[i] = String.valueOf(stream.readDouble());
                     i++; // double slot
                     break;
                 case ConstantPoolTags.CLASS:
@@ -75,7 +89,37 @@ class ConstantPool {
 
         Object constantPoolObj = pool[entry];
         return (constantPoolObj instanceof Integer
-                ? (String) pool[(Integer) constantPoolObj]
-                : (String) constantPoolObj);
+                ? string((Integer) constantPoolObj)
+                : string(entry));
+    }
+
+    private String string(int entry) {
+        Object constantPoolObj = pool[entry];
+        if (constantPoolObj instanceof byte[]) {
+            constantPoolObj = pool[entry] = decode((byte[]) constantPoolObj);
+        }
+        return (String) constantPoolObj;
+    }
+
+    private static String decode(byte[] bytes) {
+        for (byte b : bytes) {
+            // modified UTF-8 encodes every character outside 1-127 in multiple bytes, each with the high bit set
+            if (b < 0) {
+                return decodeModifiedUtf8(bytes);
+            }
+        }
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    private static String decodeModifiedUtf8(byte[] bytes) {
+        byte[] prefixed = new byte[bytes.length + 2];
+        prefixed[0] = (byte) (bytes.length >>> 8);
+        prefixed[1] = (byte) bytes.length;
+        System.arraycopy(bytes, 0, prefixed, 2, bytes.length);
+        try {
+            return new DataInputStream(new ByteArrayInputStream(prefixed)).readUTF();
+        } catch (IOException e) {
+            throw new ClassFormatError("Malformed UTF-8 constant pool entry: " + e.getMessage());
+        }
     }
 }
@@ -18,6 +18,9 @@
 
 package org.neo4j.ogm.metadata.info;
 
+import org.neo4j.ogm.annotation.NodeEntity;
+import org.neo4j.ogm.annotation.RelationshipEntity;
+import org.neo4j.ogm.entityaccess.GeneratedPropertyAccess;
 import org.neo4j.ogm.metadata.AnnotationsException;
 import org.neo4j.ogm.metadata.ClassPathScanner;
 import org.neo4j.ogm.metadata.MappingException;
@@ -43,6 +46,12 @@ public class DomainInfo implements ClassFileProcessor {
     private final Map<String, ArrayList<ClassInfo>> annotationNameToClassInfo = new HashMap<>();
     private final Map<String, ArrayList<ClassInfo>> interfaceNameToClassInfo = new HashMap<>();
 
+    // lookup indexes, built once all the classes have been loaded
+    private final Map<String, ClassInfo> labelToClassInfo = new HashMap<>();
+    private final Map<String, ClassInfo> relationshipTypeToClassInfo = new HashMap<>();
+    private final Map<String, ClassInfo> nameToClassInfo = new HashMap<>();
+    private final Set<String> ambiguousNames = new HashSet<>();
+
     private final Set<String> enumTypes = new HashSet<>();
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ClassFileProcessor.class);
@@ -163,6 +172,37 @@ public class DomainInfo implements ClassFileProcessor {
             removeTransientClass(transientClass);
         }
 
+        buildLookupIndexes();
+    }
+
+    private void buildLookupIndexes() {
+        index(labelToClassInfo, NodeEntity.CLASS, NodeEntity.LABEL);
+        index(relationshipTypeToClassInfo, RelationshipEntity.CLASS, RelationshipEntity.TYPE);
+
+        // a class can be found by its fully-qualified name or by any trailing part of it, e.g. "Member" or "forum.Member"
+        for (Map.Entry<String, ClassInfo> entry : classNameToClassInfo.entrySet()) {
+            String name = entry.getKey();
+            while (name != null) {
+                ClassInfo previous = nameToClassInfo.put(name, entry.getValue());
+                if (previous != null && previous != entry.getValue()) {
+                    ambiguousNames.add(name);
+                }
+                int dot = name.indexOf('.');
+                name = dot < 0 ? null : name.substring(dot + 1);
+            }
+        }
+    }
+
+    private void index(Map<String, ClassInfo> index, String annotation, String annotationPropertyName) {
+        List<ClassInfo> annotatedClasses = annotationNameToClassInfo.get(annotation);
+        if (annotatedClasses != null) {
+            for (ClassInfo annotatedClass : annotatedClasses) {
+                String value = annotatedClass.annotationsInfo().get(annotation).get(annotationPropertyName, annotatedClass.label());
+                if (!index.containsKey(value)) {
+                    index.put(value, annotatedClass);
+                }
+            }
+        }
     }
 
     private void removeTransientClass(ClassInfo transientClass) {
@@ -186,13 +226,27 @@ public class DomainInfo implements ClassFileProcessor {
 
     public void process(final InputStream inputStream) throws IOException {
 
-        ClassInfo classInfo = new ClassInfo(inputStream);
+        ClassInfo classInfo = new ClassInfo(inputStream, headerFilter);
 
         String className = classInfo.name();
         String superclassName = classInfo.superclassName();
 
+        if (classInfo.rejected()) {
+            LOGGER.debug("Skipping: " + className);
+            return;
+        }
+
         LOGGER.debug("processing: " + className + " -> " + superclassName);
 
+        register(classInfo);
+    }
+
+    // parsing is thread-safe, but the classes must be linked into the hierarchy one at a time
+    private synchronized void register(ClassInfo classInfo) {
+
+        String className = classInfo.name();
+        String superclassName = classInfo.superclassName();
+
         if (className != null) {
             if (classInfo.isInterface()) {
                 InterfaceInfo thisInterfaceInfo = interfaceNameToInterfaceInfo.get(className);
@@ -224,6 +278,33 @@ public class DomainInfo implements ClassFileProcessor {
 
     }
 
+    // rejects generated classes, and classes outside the domain packages, before their members are parsed
+    private final ClassHeaderFilter headerFilter = new ClassHeaderFilter() {
+        @Override
+        public boolean accept(ClassInfo header) {
+            return header.name() != null && inDomainPackages(header.name()) && !isGeneratedPropertyAccess(header);
+        }
+    };
+
+    private boolean inDomainPackages(String className) {
+        String path = className.replace('.', '/');
+        for (String classPath : classPaths) {
+            if (path.startsWith(classPath.replace(File.separatorChar, '/'))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isGeneratedPropertyAccess(ClassInfo classInfo) {
+        for (InterfaceInfo interfaceInfo : classInfo.interfacesInfo().list()) {
+            if (interfaceInfo.name().equals(GeneratedPropertyAccess.class.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void load(String... packages) {
 
         classPaths.clear();
@@ -231,6 +312,10 @@ public class DomainInfo implements ClassFileProcessor {
         interfaceNameToInterfaceInfo.clear();
         annotationNameToClassInfo.clear();
         interfaceNameToClassInfo.clear();
+        labelToClassInfo.clear();
+        relationshipTypeToClassInfo.clear();
+        nameToClassInfo.clear();
+        ambiguousNames.clear();
 
         for (String packageName : packages) {
             String path = packageName.replaceAll("\\.", File.separator);
@@ -241,23 +326,43 @@ public class DomainInfo implements ClassFileProcessor {
 
     }
 
+    /**
+     * @return the ClassInfos of all the classes loaded into this domain
+     */
+    public Collection<ClassInfo> getClassInfos() {
+        return Collections.unmodifiableCollection(classNameToClassInfo.values());
+    }
+
     public ClassInfo getClass(String fqn) {
         return classNameToClassInfo.get(fqn);
     }
 
+    /**
+     * @param fullOrPartialClassName a fully-qualified class name, or any trailing part of one such as a simple class name
+     * @return the single ClassInfo whose name matches, or <code>null</code> if there is none
+     * @throws MappingException if more than one class matches the given name
+     */
     public ClassInfo getClassSimpleName(String fullOrPartialClassName) {
-
-        ClassInfo match = null;
-        for (String fqn : classNameToClassInfo.keySet()) {
-            if (fqn.endsWith("." + fullOrPartialClassName) || fqn.equals(fullOrPartialClassName)) {
-                if (match == null) {
-                    match = classNameToClassInfo.get(fqn);
-                } else {
-                    throw new MappingException("More than one class has simple name: " + fullOrPartialClassName);
-                }
-            }
+        if (ambiguousNames.contains(fullOrPartialClassName)) {
+            throw new MappingException("More than one class has simple name: " + fullOrPartialClassName);
         }
-        return match;
+        return nameToClassInfo.get(fullOrPartialClassName);
+    }
+
+    /**
+     * @param label a node label
+     * @return the ClassInfo of the first @NodeEntity class whose label matches, or <code>null</code> if there is none
+     */
+    public ClassInfo getClassInfoForLabel(String label) {
+        return labelToClassInfo.get(label);
+    }
+
+    /**
+     * @param relationshipType a relationship type
+     * @return the ClassInfo of the first @RelationshipEntity class whose type matches, or <code>null</code> if there is none
+     */
+    public ClassInfo getClassInfoForRelationshipType(String relationshipType) {
+        return relationshipTypeToClassInfo.get(relationshipType);
     }
 
     public List<ClassInfo> getClassInfosWithAnnotation(String annotation) {
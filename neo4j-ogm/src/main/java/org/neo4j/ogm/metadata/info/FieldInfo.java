@@ -22,6 +22,7 @@ import org.neo4j.ogm.annotation.Property;
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.metadata.RelationshipUtils;
 import org.neo4j.ogm.typeconversion.AttributeConverter;
+import org.neo4j.ogm.typeconversion.ConverterInfo;
 
 public class FieldInfo {
 
@@ -33,6 +34,7 @@ public class FieldInfo {
     private final ObjectAnnotations annotations;
 
     private AttributeConverter<?, ?> converter;
+    private ConverterInfo converterInfo;
 
     /**
      * Constructs a new {@link FieldInfo} based on the given arguments.
@@ -111,9 +113,17 @@ public class FieldInfo {
     public void setConverter( AttributeConverter<?, ?> converter ) {
         if (this.converter == null && converter != null) {
             this.converter = converter;
+            this.converterInfo = ConverterInfo.of(converter);
         } // we maybe set an annotated converter when object was constructed, so don't override with a default one
     }
 
+    /**
+     * @return the types handled by the converter, resolved when it was set, or <code>null</code> if there is no converter
+     */
+    public ConverterInfo converterInfo() {
+        return converterInfo;
+    }
+
     public boolean hasConverter() {
         return converter != null;
     }
@@ -22,6 +22,7 @@ import org.neo4j.ogm.annotation.Property;
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.metadata.RelationshipUtils;
 import org.neo4j.ogm.typeconversion.AttributeConverter;
+import org.neo4j.ogm.typeconversion.ConverterInfo;
 
 public class MethodInfo {
 
@@ -34,6 +35,7 @@ public class MethodInfo {
     private final String typeParameterDescriptor;
 
     private AttributeConverter<?, ?> converter;
+    private ConverterInfo converterInfo;
 
     /**
      * Constructs a new {@link MethodInfo} based on the given arguments.
@@ -135,9 +137,17 @@ public class MethodInfo {
     public void setConverter(AttributeConverter<?, ?> converter) {
         if (this.converter == null && converter != null) {
             this.converter = converter;
+            this.converterInfo = ConverterInfo.of(converter);
         }
     }
 
+    /**
+     * @return the types handled by the converter, resolved when it was set, or <code>null</code> if there is no converter
+     */
+    public ConverterInfo converterInfo() {
+        return converterInfo;
+    }
+
     public String relationshipDirection() {
         if (relationship() != null) {
             AnnotationInfo annotationInfo = getAnnotations().get(Relationship.CLASS);
@@ -18,8 +18,17 @@
 
 package org.neo4j.ogm.model;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
 public class Property<K, V> {
 
+    private static final int NOT_A_NUMBER = 0;
+    private static final int WHOLE_NUMBER = 1;
+    private static final int DECIMAL_NUMBER = 2;
+
     K key;
     V value;
 
@@ -61,22 +70,97 @@ public class Property<K, V> {
         return String.format("%s : %s", this.key, asParameter());
     }
 
+    /**
+     * Returns the value as a Cypher parameter: Strings are passed as they are, whole numbers as Longs, other numbers as
+     * Doubles and anything else as its String representation. Numbers are converted according to their class; any other
+     * value is converted according to whether its String representation is written as a whole or a decimal number.
+     *
+     * @return The value as a Cypher parameter, or <code>null</code> if there is no value
+     */
     public Object asParameter() {
         if (value == null) {
             return null;
         }
-        if (value instanceof String) {
+        if (value instanceof String || value instanceof Long || value instanceof Double) {
             return value;
         }
-        try {
-            return Long.parseLong(value.toString());
-        } catch (Exception e1) {
-            try {
-                return Double.parseDouble(value.toString());
-            } catch (Exception e2) {
-                return value.toString();
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte
+                || value instanceof AtomicInteger || value instanceof AtomicLong) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Float) {
+            // via the String so that, for example, 0.1f becomes 0.1 rather than 0.10000000149011612
+            return Double.parseDouble(value.toString());
+        }
+        if (value instanceof BigInteger) {
+            return asParameter((BigInteger) value);
+        }
+        if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            return decimal.scale() == 0 ? asParameter(decimal.unscaledValue()) : decimal.doubleValue();
+        }
+        if (value instanceof Boolean || value instanceof Enum) {
+            return value.toString();
+        }
+        String string = value.toString();
+        switch (numberFormat(string)) {
+            case WHOLE_NUMBER:
+                // at most 18 digits always fit in a long
+                return string.length() <= 18 ? Long.parseLong(string) : asParameter(new BigInteger(string));
+            case DECIMAL_NUMBER:
+                return Double.parseDouble(string);
+            default:
+                return string;
+        }
+    }
+
+    private static Object asParameter(BigInteger integer) {
+        return integer.bitLength() < Long.SIZE ? (Object) integer.longValue() : (Object) integer.doubleValue();
+    }
+
+    /*
+     * Scans the string for an optionally signed number in plain decimal notation, with an optional fraction and exponent,
+     * so that it can be parsed without a parse failure ever being thrown.
+     */
+    private static int numberFormat(String string) {
+        int length = string.length();
+        int i = 0;
+        if (i < length && (string.charAt(i) == '-' || string.charAt(i) == '+')) {
+            i++;
+        }
+        int digits = 0;
+        for (; i < length && isDigit(string.charAt(i)); i++) {
+            digits++;
+        }
+        if (i == length) {
+            return digits > 0 ? WHOLE_NUMBER : NOT_A_NUMBER;
+        }
+        if (string.charAt(i) == '.') {
+            for (i++; i < length && isDigit(string.charAt(i)); i++) {
+                digits++;
             }
         }
+        if (digits == 0) {
+            return NOT_A_NUMBER;
+        }
+        if (i < length && (string.charAt(i) == 'e' || string.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (string.charAt(i) == '-' || string.charAt(i) == '+')) {
+                i++;
+            }
+            int exponentDigits = 0;
+            for (; i < length && isDigit(string.charAt(i)); i++) {
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return NOT_A_NUMBER;
+            }
+        }
+        return i == length ? DECIMAL_NUMBER : NOT_A_NUMBER;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 
     @Override
@@ -43,6 +43,8 @@ import org.neo4j.ogm.session.response.Neo4jResponse;
 import org.neo4j.ogm.session.response.ResponseHandler;
 import org.neo4j.ogm.session.response.SessionResponseHandler;
 import org.neo4j.ogm.session.result.RowModel;
+import org.neo4j.ogm.session.transaction.LongTransaction;
+import org.neo4j.ogm.session.transaction.PendingWrites;
 import org.neo4j.ogm.session.transaction.SimpleTransaction;
 import org.neo4j.ogm.session.transaction.Transaction;
 import org.neo4j.ogm.session.transaction.TransactionManager;
@@ -66,6 +68,11 @@ public class Neo4jSession implements Session {
 
     private Neo4jRequest<String> request;
 
+    private int writeBehindThreshold;
+
+    private int deleteBatchSize = 1000;
+    private DeleteProgressListener deleteProgressListener;
+
     private static final Pattern WRITE_CYPHER_KEYWORDS = Pattern.compile("\\b(CREATE|MERGE|SET|DELETE|REMOVE)\\b");
 
     public Neo4jSession(MetaData metaData, String url, CloseableHttpClient client, ObjectMapper mapper) {
@@ -81,6 +88,57 @@ public class Neo4jSession implements Session {
         this.request=neo4jRequest;
     }
 
+    /**
+     * Enables write-behind for saves made within a transaction started with {@link #beginTransaction()}. Saved
+     * objects are then recorded rather than written immediately, and are compiled into a single change set when
+     * the transaction commits, when another request is made in the transaction, when {@link #flush()} is called,
+     * or once the given number of distinct objects has been saved. Objects saved in this way are not assigned
+     * their ids until they have been flushed.
+     *
+     * @param writeBehindThreshold the number of saved objects at which the pending writes are flushed, or 0 to disable write-behind
+     */
+    public void setWriteBehindThreshold(int writeBehindThreshold) {
+        this.writeBehindThreshold = writeBehindThreshold;
+    }
+
+    /**
+     * Sets the maximum number of nodes deleted by any one statement. {@link #deleteAll(Class)} and {@link #purgeDatabase()}
+     * delete their nodes in rounds of this size, so that each round's transaction state stays bounded when autocommitting.
+     *
+     * @param deleteBatchSize the maximum number of nodes to delete per statement, defaulting to 1000
+     */
+    public void setDeleteBatchSize(int deleteBatchSize) {
+        if (deleteBatchSize < 1) {
+            throw new IllegalArgumentException("Delete batch size must be positive: " + deleteBatchSize);
+        }
+        this.deleteBatchSize = deleteBatchSize;
+    }
+
+    /**
+     * @param deleteProgressListener notified after each round of a batched {@link #deleteAll(Class)} or {@link #purgeDatabase()}, may be null
+     */
+    public void setDeleteProgressListener(DeleteProgressListener deleteProgressListener) {
+        this.deleteProgressListener = deleteProgressListener;
+    }
+
+    /**
+     * Bounds the number of node entities this session keeps track of. Once a request's results have been mapped or a
+     * transaction's changes synchronised, the least recently used entities beyond this number are evicted from the
+     * session, as if they had been cleared, unless they have been modified since they were last loaded or saved.
+     *
+     * @param capacity the number of node entities to keep, or 0 to keep them all until the session is cleared
+     */
+    public void setMappingContextCapacity(int capacity) {
+        mappingContext.setCapacity(capacity);
+    }
+
+    /**
+     * @return the number of entities evicted from this session since it was opened, see {@link #setMappingContextCapacity(int)}
+     */
+    public long mappingContextEvictions() {
+        return mappingContext.evictions();
+    }
+
     private RequestHandler getRequestHandler() {
         return new SessionRequestHandler(mapper, request);
     }
@@ -316,8 +374,7 @@ public class Neo4jSession implements Session {
 
     @Override
     public void purgeDatabase() {
-        String url = getOrCreateTransaction().url();
-        getRequestHandler().execute(new DeleteStatements().purge(), url).close();
+        deleteInBatches(new DeleteStatements().purge(deleteBatchSize));
         mappingContext.clear();
     }
 
@@ -348,14 +405,38 @@ public class Neo4jSession implements Session {
     }
 
     private <T> void deleteAll(T object) {
-        List<T> list;
+        List<Object> list;
         if (object.getClass().isArray()) {
-            list = Arrays.asList(object);
+            list = Arrays.asList((Object[]) object);
         } else {
-            list = (List<T>) object;
+            list = new ArrayList<>();
+            for (Object element : (Iterable<?>) object) {
+                list.add(element);
+            }
         }
-        for (T element : list) {
-            delete(element);
+
+        List<Long> ids = new ArrayList<>();
+        List<Object> entities = new ArrayList<>();
+        for (Object element : list) {
+            ClassInfo classInfo = metaData.classInfo(element);
+            if (classInfo != null) {
+                Field identityField = classInfo.getField(classInfo.identityField());
+                Long identity = (Long) FieldWriter.read(identityField, element);
+                if (identity != null) {
+                    ids.add(identity);
+                    entities.add(element);
+                }
+            } else {
+                logger.info(element.getClass().getName() + " is not an instance of a persistable class");
+            }
+        }
+
+        if (!ids.isEmpty()) {
+            String url = getOrCreateTransaction().url();
+            List<ParameterisedStatement> statements = new DeleteStatements().deleteAll(ids, deleteBatchSize);
+            try (Neo4jResponse<String> response = getRequestHandler().execute(statements, url)) {
+                mappingContext.clearAll(entities);
+            }
         }
     }
 
@@ -366,15 +447,12 @@ public class Neo4jSession implements Session {
         } else {
             ClassInfo classInfo = metaData.classInfo(object);
             if (classInfo != null) {
-                Transaction tx = getOrCreateTransaction();
-                CypherContext context = new EntityGraphMapper(metaData, mappingContext).map(object, depth);
-                try (Neo4jResponse<String> response = getRequestHandler().execute(context.getStatements(), tx.url())) {
-                    getResponseHandler().updateObjects(context, response, mapper);
-                    Field identityField = classInfo.getField(classInfo.identityField());
-                    Long id = (Long) FieldWriter.read(identityField, object);
-                    // ensure the mapping context has the latest version of this object
-                    //mappingContext.replace(object, id);
-                    tx.append(context);
+                Transaction tx = getOrCreateTransaction(false);
+                WriteBehind writeBehind = writeBehind(tx);
+                if (writeBehind != null) {
+                    writeBehind.add(object, depth);
+                } else {
+                    write(new EntityGraphMapper(metaData, mappingContext).map(object, depth), tx);
                 }
             } else {
                 logger.info(object.getClass().getName() + " is not an instance of a persistable class");
@@ -382,6 +460,35 @@ public class Neo4jSession implements Session {
         }
     }
 
+    @Override
+    public void flush() {
+        Transaction tx = txManager.getCurrentTransaction();
+        if (tx instanceof LongTransaction) {
+            PendingWrites pendingWrites = ((LongTransaction) tx).pendingWrites();
+            if (pendingWrites != null) {
+                pendingWrites.flush();
+            }
+        }
+    }
+
+    private void write(CypherContext context, Transaction tx) {
+        try (Neo4jResponse<String> response = getRequestHandler().execute(context.getStatements(), tx.url())) {
+            getResponseHandler().updateObjects(context, response, mapper);
+            tx.append(context);
+        }
+    }
+
+    private WriteBehind writeBehind(Transaction tx) {
+        if (writeBehindThreshold > 0 && tx instanceof LongTransaction) {
+            LongTransaction longTransaction = (LongTransaction) tx;
+            if (!(longTransaction.pendingWrites() instanceof WriteBehind)) {
+                longTransaction.setPendingWrites(new WriteBehind(longTransaction));
+            }
+            return (WriteBehind) longTransaction.pendingWrites();
+        }
+        return null;
+    }
+
     @Override
     public <T> void delete(T object) {
         if (object.getClass().isArray() || Iterable.class.isAssignableFrom(object.getClass())) {
@@ -408,16 +515,38 @@ public class Neo4jSession implements Session {
     public <T> void deleteAll(Class<T> type) {
         ClassInfo classInfo = metaData.classInfo(type.getName());
         if (classInfo != null) {
-            String url = getOrCreateTransaction().url();
-            ParameterisedStatement request = new DeleteStatements().deleteByLabel(classInfo.label());
-            try (Neo4jResponse<String> response = getRequestHandler().execute(request, url)) {
-                mappingContext.clear(type);
-            }
+            deleteInBatches(new DeleteStatements().deleteByLabel(classInfo.label(), deleteBatchSize));
+            mappingContext.clear(type);
         } else {
             logger.info(type.getName() + " is not a persistable class");
         }
     }
 
+    /**
+     * Runs the given query, which deletes at most one batch of nodes and returns their ids, until it deletes
+     * less than a full batch. The mapping context is purged of each batch of nodes as soon as it has been deleted.
+     */
+    private void deleteInBatches(RowModelQuery batch) {
+        long deletedSoFar = 0;
+        int deleted;
+        do {
+            String url = getOrCreateTransaction().url();
+            List<Long> ids = new ArrayList<>();
+            try (Neo4jResponse<RowModel> response = getRequestHandler().execute(batch, url)) {
+                RowModel row;
+                while ((row = response.next()) != null) {
+                    ids.add(((Number) row.getValues()[0]).longValue());
+                }
+            }
+            mappingContext.clearNodes(ids);
+            deleted = ids.size();
+            deletedSoFar += deleted;
+            if (deleteProgressListener != null && deleted > 0) {
+                deleteProgressListener.batchDeleted(deleted, deletedSoFar);
+            }
+        } while (deleted >= deleteBatchSize);
+    }
+
     @Override
     public long countEntitiesOfType(Class<?> entity) {
         ClassInfo classInfo = metaData.classInfo(entity.getName());
@@ -440,6 +569,17 @@ public class Neo4jSession implements Session {
     }
 
     private Transaction getOrCreateTransaction() {
+        return getOrCreateTransaction(true);
+    }
+
+    /**
+     * Returns the current transaction, or a new autocommit transaction if there isn't one.
+     *
+     * @param flushPendingWrites whether writes deferred in the current transaction should be flushed first,
+     *                           so that the next request sees them
+     * @return the transaction to use for the next request
+     */
+    private Transaction getOrCreateTransaction(boolean flushPendingWrites) {
 
         logger.info("--------- new request ----------");
         logger.info("getOrCreateTransaction() being called on thread: " + Thread.currentThread().getId());
@@ -455,8 +595,58 @@ public class Neo4jSession implements Session {
         }
 
         logger.info("Current transaction: " + tx.url() + ", tx id: " + tx);
+        if (flushPendingWrites) {
+            flush();
+        }
         return tx;
 
     }
 
+    /**
+     * Collects the objects saved in a transaction, so that they can be written to it as one
+     * coalesced change set. An object saved more than once is written once, to the greatest depth requested.
+     */
+    private class WriteBehind implements PendingWrites {
+
+        // keyed by identity, so that distinct objects which happen to be equal are each written
+        private final Map<Object, Map.Entry<Object, Integer>> entities = new IdentityHashMap<>();
+        private final List<Map.Entry<Object, Integer>> order = new ArrayList<>();
+        private final Transaction tx;
+
+        WriteBehind(Transaction tx) {
+            this.tx = tx;
+        }
+
+        void add(Object entity, int depth) {
+            Map.Entry<Object, Integer> previous = entities.get(entity);
+            if (previous == null) {
+                Map.Entry<Object, Integer> entry = new AbstractMap.SimpleEntry<>(entity, depth);
+                entities.put(entity, entry);
+                order.add(entry);
+            } else if (previous.getValue() >= 0 && (depth < 0 || depth > previous.getValue())) {
+                previous.setValue(depth);
+            }
+            if (order.size() >= writeBehindThreshold) {
+                flush();
+            }
+        }
+
+        @Override
+        public void flush() {
+            if (!order.isEmpty()) {
+                logger.info("flushing {} pending writes", order.size());
+                write(new EntityGraphMapper(metaData, mappingContext).map(order), tx);
+                // only forgotten once written, so that a failed write can be retried
+                entities.clear();
+                order.clear();
+            }
+        }
+
+        @Override
+        public void discard() {
+            entities.clear();
+            order.clear();
+        }
+    }
+
 }
@@ -56,6 +56,8 @@ public interface Session {
 
     <T> void save(T object, int depth);
 
+    void flush();
+
     <T> void delete(T object);
 
     <T> void deleteAll(Class<T> type);
@@ -21,10 +21,17 @@ package org.neo4j.ogm.session;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
+import org.neo4j.ogm.entityaccess.InstantiationStrategy;
 import org.neo4j.ogm.metadata.MetaData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
 
 public class SessionFactory {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionFactory.class);
+
     private static final ObjectMapper objectMapper = new ObjectMapper();
     private final CloseableHttpClient httpClient = HttpClients.createDefault();
     private final MetaData metaData;
@@ -37,4 +44,41 @@ public class SessionFactory {
         return new Neo4jSession(metaData, url, httpClient, objectMapper);
     }
 
+    /**
+     * Opens a session that defers the saves made within its transactions, see {@link Neo4jSession#setWriteBehindThreshold(int)}
+     *
+     * @param url the url of the Neo4j server
+     * @param writeBehindThreshold the number of saved objects at which pending writes are flushed
+     * @return a new {@link Session}
+     */
+    public Session openSession(String url, int writeBehindThreshold) {
+        Neo4jSession session = new Neo4jSession(metaData, url, httpClient, objectMapper);
+        session.setWriteBehindThreshold(writeBehindThreshold);
+        return session;
+    }
+
+    /**
+     * Prepares the mapping of every entity class in the domain, see {@link MetaData#warmUp()}, so that the first sessions
+     * opened don't pay for discovering it. Call this once, before serving requests.
+     *
+     * @return the time taken to warm up, in milliseconds
+     */
+    public long warmUp() {
+        long start = System.nanoTime();
+        int classes = metaData.warmUp();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LOGGER.info("Mapping of " + classes + " entity classes warmed up in " + elapsed + " milliseconds");
+        return elapsed;
+    }
+
+    /**
+     * Registers a strategy for instantiating the domain classes when they are loaded by any session from this factory,
+     * see {@link org.neo4j.ogm.entityaccess.EntityFactory#addInstantiationStrategy(InstantiationStrategy)}
+     *
+     * @param strategy the {@link InstantiationStrategy} to add
+     */
+    public void addInstantiationStrategy(InstantiationStrategy strategy) {
+        metaData.entityFactory().addInstantiationStrategy(strategy);
+    }
+
 }
@@ -18,10 +18,13 @@
 
 package org.neo4j.ogm.session.request.strategy;
 
+import org.neo4j.ogm.cypher.query.RowModelQuery;
 import org.neo4j.ogm.cypher.statement.ParameterisedStatement;
 import org.neo4j.ogm.session.Utils;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 public class DeleteStatements {
 
@@ -33,11 +36,47 @@ public class DeleteStatements {
         return new ParameterisedStatement("MATCH (n) WHERE id(n) in { ids } OPTIONAL MATCH (n)-[r]-() DELETE r, n", Utils.map("ids", ids));
     }
 
-    public ParameterisedStatement purge() {
-        return new ParameterisedStatement("MATCH (n) OPTIONAL MATCH (n)-[r]-() DELETE r, n", Utils.map());
+    /**
+     * Splits the deletion of the given nodes into statements that each delete at most batchSize of them
+     *
+     * @param ids the ids of the nodes to delete
+     * @param batchSize the maximum number of ids in any one statement
+     * @return the statements, in order, that delete all the nodes
+     */
+    public List<ParameterisedStatement> deleteAll(List<Long> ids, int batchSize) {
+        List<ParameterisedStatement> statements = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, ids.size());
+            statements.add(deleteAll(new ArrayList<>(ids.subList(from, to))));
+        }
+        return statements;
     }
 
-    public ParameterisedStatement deleteByLabel(String label) {
-        return new ParameterisedStatement(String.format("MATCH (n:%s) OPTIONAL MATCH (n)-[r]-() DELETE r, n", label), Utils.map());
+    /**
+     * Deletes at most batchSize nodes, together with their relationships, returning the ids of the deleted nodes.
+     * Repeating the query until it returns fewer than batchSize rows purges the whole graph.
+     *
+     * @param batchSize the maximum number of nodes to delete
+     * @return a query returning the ids of the deleted nodes
+     */
+    public RowModelQuery purge(int batchSize) {
+        return deleteInBatch("MATCH (n)", batchSize);
+    }
+
+    /**
+     * Deletes at most batchSize nodes with the given label, together with their relationships, returning the ids of
+     * the deleted nodes. Repeating the query until it returns fewer than batchSize rows deletes every node with the label.
+     *
+     * @param label the label of the nodes to delete
+     * @param batchSize the maximum number of nodes to delete
+     * @return a query returning the ids of the deleted nodes
+     */
+    public RowModelQuery deleteByLabel(String label, int batchSize) {
+        return deleteInBatch(String.format("MATCH (n:%s)", label), batchSize);
+    }
+
+    private RowModelQuery deleteInBatch(String match, int batchSize) {
+        return new RowModelQuery(match + " WITH n LIMIT { limit } OPTIONAL MATCH (n)-[r]-() WITH n, id(n) AS id, collect(r) AS rels FOREACH (r IN rels | DELETE r) DELETE n RETURN id",
+                Utils.map("limit", batchSize));
     }
 }
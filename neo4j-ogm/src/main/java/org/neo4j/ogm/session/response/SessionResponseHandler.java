@@ -62,6 +62,7 @@ public class SessionResponseHandler implements ResponseHandler {
             }
         }
         response.close();
+        mappingContext.evict();
 
         return objects;
     }
@@ -97,9 +98,10 @@ public class SessionResponseHandler implements ResponseHandler {
                     Field identityField = classInfo.getField(classInfo.identityField());
                     FieldWriter.write(identityField, persisted, identity);
 
-                    // ensure the newly created domain object is added into the mapping context
+                    // ensure the newly created domain object is added into the mapping context, in place of any
+                    // object already registered for a node that it was merged into
                     if (classInfo.annotationsInfo().get(RelationshipEntity.CLASS) == null) {
-                        mappingContext.registerNodeEntity(persisted, identity);
+                        mappingContext.replaceNodeEntity(persisted, identity);
                     } else {
                         mappingContext.registerRelationshipEntity(persisted, identity);
                     }
@@ -126,7 +128,9 @@ public class SessionResponseHandler implements ResponseHandler {
             ogm.map(type, graphModel);
         }
         response.close();
-        return lookup(type, id);
+        T entity = lookup(type, id);
+        mappingContext.evict();
+        return entity;
     }
 
     private <T> T lookup(Class<T> type, Long id) {
@@ -149,6 +153,7 @@ public class SessionResponseHandler implements ResponseHandler {
             objects.addAll(ogm.map(type, graphModel));
         }
         response.close();
+        mappingContext.evict();
         return objects;
     }
 
@@ -28,24 +28,49 @@ public class LongTransaction extends SimpleTransaction {
 
     private final TransactionManager transactionRequestHandler;
 
+    private PendingWrites pendingWrites;
+
     public LongTransaction(MappingContext mappingContext, String url, TransactionManager transactionRequestHandler) {
         super(mappingContext, url);
         this.transactionRequestHandler = transactionRequestHandler;
     }
 
+    /**
+     * Registers the writes that must be flushed to this transaction before it commits, or
+     * discarded if it is rolled back.
+     *
+     * @param pendingWrites the writes deferred by the session, may be <code>null</code>
+     */
+    public void setPendingWrites(PendingWrites pendingWrites) {
+        this.pendingWrites = pendingWrites;
+    }
+
+    public PendingWrites pendingWrites() {
+        return pendingWrites;
+    }
+
     public void commit() {
+        if (pendingWrites != null) {
+            pendingWrites.flush();
+        }
         transactionRequestHandler.commit(this);
         super.commit();
     }
 
 
     public void rollback() {
+        if (pendingWrites != null) {
+            pendingWrites.discard();
+        }
         transactionRequestHandler.rollback(this);
         super.rollback();
     }
 
     public void close() {
         if (this.status().equals(Status.OPEN) || this.status().equals(Status.PENDING)) {
+            if (pendingWrites != null) {
+                pendingWrites.discard();
+            }
             transactionRequestHandler.rollback(this);
         }
         super.close();
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.session.transaction;
+
+/**
+ * Holds the writes a session has deferred until its current transaction needs them.
+ */
+public interface PendingWrites {
+
+    /**
+     * Compiles the deferred writes and sends them to the transaction
+     */
+    void flush();
+
+    /**
+     * Forgets the deferred writes without sending them
+     */
+    void discard();
+
+}
@@ -113,6 +113,10 @@ public class SimpleTransaction implements Transaction {
                 }
             }
             logger.debug("checked objects: " + cypherContext.log().size());
+
+            for (Object o : cypherContext.entitiesWithMappedRelationships()) {
+                mappingContext.rememberRelationships(o);
+            }
         }
 
         logger.debug("relationships registered active:");
@@ -122,6 +126,7 @@ public class SimpleTransaction implements Transaction {
         }
 
         contexts.clear();
+        mappingContext.evict();
     }
 
 
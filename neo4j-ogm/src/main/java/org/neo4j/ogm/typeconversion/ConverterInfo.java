@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.neo4j.ogm.typeconversion;
+
+import java.lang.reflect.Method;
+
+/**
+ * The entity attribute type and graph property type handled by an {@link AttributeConverter}, found by reflecting once
+ * on the converter's <code>toGraphProperty</code> method rather than every time a converted value is mapped.
+ */
+public final class ConverterInfo {
+
+    private final Class<?> entityType;
+    private final Class<?> graphType;
+
+    private ConverterInfo(Class<?> entityType, Class<?> graphType) {
+        this.entityType = entityType;
+        this.graphType = graphType;
+    }
+
+    /**
+     * @param converter the converter to describe
+     * @return the types converted by the given converter. If its class declares more than one <code>toGraphProperty</code>
+     * method, the types of the first one found that is not a compiler-generated bridge method are returned.
+     */
+    public static ConverterInfo of(AttributeConverter<?, ?> converter) {
+        Method bridge = null;
+        for (Class<?> type = converter.getClass(); type != null; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.getName().equals("toGraphProperty") && method.getParameterTypes().length == 1) {
+                    if (!method.isBridge()) {
+                        return new ConverterInfo(method.getParameterTypes()[0], method.getReturnType());
+                    }
+                    bridge = method;
+                }
+            }
+        }
+        if (bridge != null) {
+            return new ConverterInfo(bridge.getParameterTypes()[0], bridge.getReturnType());
+        }
+        return new ConverterInfo(Object.class, Object.class);
+    }
+
+    /**
+     * @return the type of the entity attribute, as accepted by <code>toGraphProperty</code>
+     */
+    public Class<?> entityType() {
+        return entityType;
+    }
+
+    /**
+     * @return the type of the graph property, as returned by <code>toGraphProperty</code>
+     */
+    public Class<?> graphType() {
+        return graphType;
+    }
+}
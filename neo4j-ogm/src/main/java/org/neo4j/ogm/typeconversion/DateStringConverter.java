@@ -18,6 +18,8 @@
 
 package org.neo4j.ogm.typeconversion;
 
+import org.neo4j.ogm.annotation.typeconversion.DateString;
+
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -37,25 +39,56 @@ import java.util.TimeZone;
  */
 public class DateStringConverter implements AttributeConverter<Date, String> {
 
-    private String format;
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private final String format;
+    private final boolean iso8601;
+
+    // SimpleDateFormat isn't thread-safe and is expensive to create, so each thread keeps its own
+    private final ThreadLocal<SimpleDateFormat> formatter = new ThreadLocal<SimpleDateFormat>() {
+        @Override
+        protected SimpleDateFormat initialValue() {
+            SimpleDateFormat simpleDateFormat = new SimpleDateFormat(format);
+            simpleDateFormat.setTimeZone(UTC);
+            return simpleDateFormat;
+        }
+    };
+
+    private final ThreadLocal<SimpleDateFormat> parser = new ThreadLocal<SimpleDateFormat>() {
+        @Override
+        protected SimpleDateFormat initialValue() {
+            return new SimpleDateFormat(format);
+        }
+    };
 
     public DateStringConverter(String userDefinedFormat) {
         this.format = userDefinedFormat;
+        this.iso8601 = DateString.ISO_8601.equals(userDefinedFormat);
     }
 
     @Override
     public String toGraphProperty(Date value) {
         if (value == null) return null;
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(format);
-        simpleDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-        return simpleDateFormat.format((Date) value);
+        if (iso8601) {
+            String formatted = Iso8601.format(value.getTime());
+            if (formatted != null) {
+                return formatted;
+            }
+        }
+        return formatter.get().format(value);
     }
 
     @Override
     public Date toEntityAttribute(String value) {
         if (value == null) return null;
+        if (iso8601) {
+            long parsed = Iso8601.parse(value);
+            if (parsed != Iso8601.UNPARSED) {
+                return new Date(parsed);
+            }
+        }
         try {
-            return new SimpleDateFormat(format).parse((String) value);
+            return parser.get().parse(value);
         } catch (ParseException e) {
             throw new RuntimeException(e);
         }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.typeconversion;
+
+/**
+ * Formats and parses dates in the default ISO 8601 format, <code>yyyy-MM-dd'T'HH:mm:ss.SSSXXX</code>, without
+ * allocating calendars or formatters.
+ *
+ * Only dates from 1583 to 9999 are handled, as the calendar used by SimpleDateFormat is Julian before the Gregorian
+ * cut-over, and only text that is strictly in this format is parsed; everything else is left to SimpleDateFormat, so
+ * the results are always the same as SimpleDateFormat's.
+ */
+final class Iso8601 {
+
+    /** Returned by {@link #parse(String)} for text that must be parsed by SimpleDateFormat instead. */
+    static final long UNPARSED = Long.MIN_VALUE;
+
+    private static final long MIN_MILLIS = -12212553600000L; // 1583-01-01T00:00:00.000Z
+    private static final long MAX_MILLIS = 253402300799999L; // 9999-12-31T23:59:59.999Z
+
+    private static final long MILLIS_PER_DAY = 86400000L;
+
+    private Iso8601() {}
+
+    /**
+     * @param millis the time to format, in milliseconds since the epoch
+     * @return the time formatted in UTC, or <code>null</code> if it is out of the range handled here
+     */
+    static String format(long millis) {
+        if (millis < MIN_MILLIS || millis > MAX_MILLIS) {
+            return null;
+        }
+
+        long days = millis >= 0 ? millis / MILLIS_PER_DAY : (millis + 1) / MILLIS_PER_DAY - 1;
+        int millisOfDay = (int) (millis - days * MILLIS_PER_DAY);
+
+        // converts days since the epoch to a date in the proleptic Gregorian calendar
+        long z = days + 719468;
+        long era = (z >= 0 ? z : z - 146096) / 146097;
+        int dayOfEra = (int) (z - era * 146097);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+
+        char[] text = new char[24];
+        digits(text, 0, year, 4);
+        text[4] = '-';
+        digits(text, 5, month, 2);
+        text[7] = '-';
+        digits(text, 8, day, 2);
+        text[10] = 'T';
+        digits(text, 11, millisOfDay / 3600000, 2);
+        text[13] = ':';
+        digits(text, 14, millisOfDay / 60000 % 60, 2);
+        text[16] = ':';
+        digits(text, 17, millisOfDay / 1000 % 60, 2);
+        text[19] = '.';
+        digits(text, 20, millisOfDay % 1000, 3);
+        text[23] = 'Z';
+        return new String(text);
+    }
+
+    /**
+     * @param text the text to parse, such as <code>2015-03-01T12:30:00.000Z</code> or <code>2015-03-01T12:30:00.000+01:00</code>
+     * @return the time in milliseconds since the epoch, or {@link #UNPARSED} if the text isn't strictly in this format
+     */
+    static long parse(String text) {
+        int length = text.length();
+        if (length != 24 && length != 29) {
+            return UNPARSED;
+        }
+        if (text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != 'T'
+                || text.charAt(13) != ':' || text.charAt(16) != ':' || text.charAt(19) != '.') {
+            return UNPARSED;
+        }
+
+        int year = number(text, 0, 4);
+        int month = number(text, 5, 2);
+        int day = number(text, 8, 2);
+        int hour = number(text, 11, 2);
+        int minute = number(text, 14, 2);
+        int second = number(text, 17, 2);
+        int millis = number(text, 20, 3);
+
+        if (year < 1583 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 || millis < 0) {
+            return UNPARSED;
+        }
+
+        int offsetMinutes;
+        char sign = text.charAt(23);
+        if (length == 24) {
+            if (sign != 'Z') {
+                return UNPARSED;
+            }
+            offsetMinutes = 0;
+        } else {
+            int offsetHours = number(text, 24, 2);
+            int offsetMinutesOfHour = number(text, 27, 2);
+            if ((sign != '+' && sign != '-') || text.charAt(26) != ':'
+                    || offsetHours < 0 || offsetHours > 23 || offsetMinutesOfHour < 0 || offsetMinutesOfHour > 59) {
+                return UNPARSED;
+            }
+            offsetMinutes = (sign == '-' ? -1 : 1) * (offsetHours * 60 + offsetMinutesOfHour);
+        }
+
+        long days = daysSinceEpoch(year, month, day);
+        return (((days * 24 + hour) * 60 + minute - offsetMinutes) * 60 + second) * 1000 + millis;
+    }
+
+    // converts a date in the proleptic Gregorian calendar to days since the epoch
+    private static long daysSinceEpoch(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return (long) era * 146097 + dayOfEra - 719468;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static void digits(char[] text, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            text[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    // returns -1 if any of the characters is not a digit
+    private static int number(String text, int offset, int width) {
+        int value = 0;
+        for (int i = offset; i < offset + width; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.typeconversion;
+
+/**
+ * An {@link AttributeConverter} for <code>long</code> entity attributes, which the OGM calls with unboxed values when
+ * reading and writing fields and properties declared as <code>long</code>.
+ *
+ * The boxed methods inherited from {@link AttributeConverter} are still used for <code>Long</code> attributes and null
+ * values, so they should behave in the same way as their primitive counterparts.
+ *
+ * @param <F> the class of the associated graph property
+ */
+public interface LongAttributeConverter<F> extends AttributeConverter<Long, F> {
+
+    F fromPrimitiveAttribute(long value);
+    long toPrimitiveAttribute(F value);
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.domain.convertible.primitives;
+
+import org.neo4j.ogm.typeconversion.DoubleAttributeConverter;
+
+public class KilopascalConverter implements DoubleAttributeConverter<Long> {
+
+    public static int boxedConversions;
+
+    @Override
+    public Long fromPrimitiveAttribute(double value) {
+        return Math.round(value * 1000);
+    }
+
+    @Override
+    public double toPrimitiveAttribute(Long value) {
+        return value / 1000.0;
+    }
+
+    @Override
+    public Long toGraphProperty(Double value) {
+        boxedConversions++;
+        return value == null ? null : fromPrimitiveAttribute(value);
+    }
+
+    @Override
+    public Double toEntityAttribute(Long value) {
+        boxedConversions++;
+        return value == null ? null : toPrimitiveAttribute(value);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.domain.convertible.primitives;
+
+import org.neo4j.ogm.typeconversion.LongAttributeConverter;
+
+public class MillisecondsConverter implements LongAttributeConverter<String> {
+
+    public static int boxedConversions;
+
+    @Override
+    public String fromPrimitiveAttribute(long value) {
+        return value + "ms";
+    }
+
+    @Override
+    public long toPrimitiveAttribute(String value) {
+        return Long.parseLong(value.substring(0, value.length() - 2));
+    }
+
+    @Override
+    public String toGraphProperty(Long value) {
+        boxedConversions++;
+        return value == null ? null : fromPrimitiveAttribute(value);
+    }
+
+    @Override
+    public Long toEntityAttribute(String value) {
+        boxedConversions++;
+        return value == null ? null : toPrimitiveAttribute(value);
+    }
+}
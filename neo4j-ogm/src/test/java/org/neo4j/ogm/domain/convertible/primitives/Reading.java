@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.domain.convertible.primitives;
+
+import org.neo4j.ogm.annotation.typeconversion.Convert;
+
+public class Reading {
+
+    private Long id;
+
+    @Convert(MillisecondsConverter.class)
+    private long duration;
+
+    @Convert(PercentageConverter.class)
+    private int percentage;
+
+    @Convert(CelsiusConverter.class)
+    private double temperature;
+
+    @Convert(YesNoConverter.class)
+    private boolean valid;
+
+    private double pressure;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public long getDuration() {
+        return duration;
+    }
+
+    public int getPercentage() {
+        return percentage;
+    }
+
+    public double getTemperature() {
+        return temperature;
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    @Convert(KilopascalConverter.class)
+    public double getPressure() {
+        return pressure;
+    }
+
+    @Convert(KilopascalConverter.class)
+    public void setPressure(double pressure) {
+        this.pressure = pressure;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.integration;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.domain.education.Course;
+import org.neo4j.ogm.domain.education.Student;
+import org.neo4j.ogm.session.DeleteProgressListener;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.WrappingServerIntegrationTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class BatchedDeleteIntegrationTest extends WrappingServerIntegrationTest {
+
+    private static SessionFactory sessionFactory;
+
+    private Neo4jSession session;
+    private final List<Long> progress = new ArrayList<>();
+
+    @BeforeClass
+    public static void init() {
+        sessionFactory = new SessionFactory("org.neo4j.ogm.domain.education");
+    }
+
+    @Before
+    public void createStudents() {
+        session = (Neo4jSession) sessionFactory.openSession(baseNeoUrl());
+        session.setDeleteBatchSize(2);
+        session.setDeleteProgressListener(new DeleteProgressListener() {
+            @Override
+            public void batchDeleted(int deletedInBatch, long deletedSoFar) {
+                progress.add(deletedSoFar);
+            }
+        });
+
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            students.add(new Student("Student " + i));
+        }
+        Course course = new Course("Maths");
+        course.setStudents(students);
+        session.save(course);
+    }
+
+    @Test
+    public void shouldDeleteAllEntitiesOfTypeInBatches() {
+        session.deleteAll(Student.class);
+
+        assertEquals(Arrays.asList(2L, 4L, 5L), progress);
+        assertEquals(0, session.countEntitiesOfType(Student.class));
+        assertEquals(1, session.countEntitiesOfType(Course.class));
+        assertNull(sessionFactory.openSession(baseNeoUrl()).loadAll(Course.class).iterator().next().getStudents());
+    }
+
+    @Test
+    public void shouldPurgeDatabaseInBatches() {
+        session.purgeDatabase();
+
+        assertEquals(Arrays.asList(2L, 4L, 6L), progress);
+        assertEquals(0, session.countEntitiesOfType(Student.class));
+        assertEquals(0, session.countEntitiesOfType(Course.class));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.integration;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.domain.education.Course;
+import org.neo4j.ogm.domain.education.Student;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.WrappingServerIntegrationTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MappingContextEvictionIntegrationTest extends WrappingServerIntegrationTest {
+
+    private static SessionFactory sessionFactory;
+
+    @BeforeClass
+    public static void init() {
+        sessionFactory = new SessionFactory("org.neo4j.ogm.domain.education");
+    }
+
+    @Test
+    public void shouldEvictCleanEntitiesBeyondCapacityAndStillSaveThem() {
+        Neo4jSession session = (Neo4jSession) sessionFactory.openSession(baseNeoUrl());
+        session.setMappingContextCapacity(3);
+
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            students.add(new Student("Student " + i));
+        }
+        Course course = new Course("Maths");
+        course.setStudents(students);
+        session.save(course);
+
+        assertEquals(3, session.mappingContextEvictions());
+
+        // an evicted student is saved as if it had been cleared from the session
+        Student evicted = students.get(0);
+        evicted.setName("Renamed");
+        session.save(evicted);
+
+        Course loaded = session.load(Course.class, course.getId(), 1);
+        assertEquals(5, loaded.getStudents().size());
+        assertTrue(session.mappingContextEvictions() > 3);
+
+        Course reloaded = sessionFactory.openSession(baseNeoUrl()).load(Course.class, course.getId(), 1);
+        assertEquals(5, reloaded.getStudents().size());
+        assertEquals(1, countStudentsNamed(reloaded, "Renamed"));
+        assertEquals(6, session.countEntitiesOfType(Student.class) + session.countEntitiesOfType(Course.class));
+    }
+
+    private static int countStudentsNamed(Course course, String name) {
+        int count = 0;
+        for (Student student : course.getStudents()) {
+            if (name.equals(student.getName())) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
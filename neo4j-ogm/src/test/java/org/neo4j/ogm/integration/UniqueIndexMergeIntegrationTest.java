@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.integration;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.domain.catalogue.Category;
+import org.neo4j.ogm.domain.catalogue.Product;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.WrappingServerIntegrationTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+public class UniqueIndexMergeIntegrationTest extends WrappingServerIntegrationTest {
+
+    private static SessionFactory sessionFactory;
+
+    @BeforeClass
+    public static void init() {
+        sessionFactory = new SessionFactory("org.neo4j.ogm.domain.catalogue");
+    }
+
+    @Test
+    public void shouldMergeNewEntitiesIntoExistingNodesByUniqueIndex() {
+        Product kettle = new Product("XB-100", "Kettle");
+        kettle.setCategory(new Category("Kitchen"));
+        sessionFactory.openSession(baseNeoUrl()).save(kettle);
+        assertNotNull(kettle.getId());
+
+        Product ingested = new Product("XB-100", "Electric kettle");
+        ingested.setCategory(new Category("Kitchen"));
+        sessionFactory.openSession(baseNeoUrl()).save(ingested);
+
+        assertEquals(kettle.getId(), ingested.getId());
+        assertEquals(kettle.getCategory().getId(), ingested.getCategory().getId());
+
+        Session session = sessionFactory.openSession(baseNeoUrl());
+        assertEquals(1, session.countEntitiesOfType(Product.class));
+        assertEquals(1, session.countEntitiesOfType(Category.class));
+
+        Product loaded = session.load(Product.class, kettle.getId());
+        assertEquals("Electric kettle", loaded.getDescription());
+        assertEquals("Kitchen", loaded.getCategory().getName());
+    }
+
+    @Test
+    public void shouldReplaceTheObjectAlreadyMappedToAMergedNode() {
+        Product toaster = new Product("XB-200", "Toaster");
+        sessionFactory.openSession(baseNeoUrl()).save(toaster);
+
+        Session session = sessionFactory.openSession(baseNeoUrl());
+        Product loaded = session.load(Product.class, toaster.getId());
+
+        Product ingested = new Product("XB-200", "Two-slot toaster");
+        session.save(ingested);
+
+        assertEquals(loaded.getId(), ingested.getId());
+        assertSame(ingested, session.load(Product.class, ingested.getId()));
+        assertEquals(1, session.loadAll(Product.class).size());
+        assertSame(ingested, session.loadAll(Product.class).iterator().next());
+    }
+
+    @Test
+    public void shouldCreateEntitiesWithoutBusinessKey() {
+        Session session = sessionFactory.openSession(baseNeoUrl());
+        session.save(new Product(null, "Unlabelled"));
+        session.save(new Product(null, "Unlabelled"));
+
+        assertEquals(2, session.countEntitiesOfType(Product.class));
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.integration;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.domain.education.Course;
+import org.neo4j.ogm.domain.education.Student;
+import org.neo4j.ogm.domain.tags.Tag;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.transaction.Transaction;
+import org.neo4j.ogm.testutil.WrappingServerIntegrationTest;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class WriteBehindIntegrationTest extends WrappingServerIntegrationTest {
+
+    private static SessionFactory sessionFactory;
+
+    @BeforeClass
+    public static void init() {
+        sessionFactory = new SessionFactory("org.neo4j.ogm.domain.education");
+    }
+
+    @Test
+    public void shouldDeferSavesUntilCommit() {
+        Session session = sessionFactory.openSession(baseNeoUrl(), 100);
+
+        Course course = new Course("GCSE Physics");
+        Student alice = new Student("Alice");
+        course.setStudents(Arrays.asList(alice));
+
+        try (Transaction tx = session.beginTransaction()) {
+            session.save(course);
+            alice.setName("Alicia");
+            session.save(alice);
+            session.save(course);
+
+            assertNull(course.getId());
+            assertNull(alice.getId());
+
+            tx.commit();
+        }
+
+        assertNotNull(course.getId());
+        assertNotNull(alice.getId());
+
+        Session other = sessionFactory.openSession(baseNeoUrl());
+        assertEquals(1, other.countEntitiesOfType(Course.class));
+        assertEquals(1, other.countEntitiesOfType(Student.class));
+        assertEquals("Alicia", other.load(Student.class, alice.getId()).getName());
+        assertEquals(1, other.load(Course.class, course.getId()).getStudents().size());
+    }
+
+    @Test
+    public void shouldFlushWhenThresholdIsReached() {
+        Session session = sessionFactory.openSession(baseNeoUrl(), 2);
+
+        Student bob = new Student("Bob");
+        Student carol = new Student("Carol");
+
+        try (Transaction tx = session.beginTransaction()) {
+            session.save(bob);
+            assertNull(bob.getId());
+
+            session.save(carol);
+            assertNotNull(bob.getId());
+            assertNotNull(carol.getId());
+
+            tx.commit();
+        }
+
+        assertEquals(2, sessionFactory.openSession(baseNeoUrl()).countEntitiesOfType(Student.class));
+    }
+
+    @Test
+    public void shouldFlushBeforeQueryingInTransaction() {
+        Session session = sessionFactory.openSession(baseNeoUrl(), 100);
+
+        try (Transaction tx = session.beginTransaction()) {
+            session.save(new Student("Dave"));
+            assertEquals(1, session.countEntitiesOfType(Student.class));
+            tx.commit();
+        }
+    }
+
+    @Test
+    public void shouldDiscardPendingWritesOnRollback() {
+        Session session = sessionFactory.openSession(baseNeoUrl(), 100);
+
+        Student erin = new Student("Erin");
+
+        try (Transaction tx = session.beginTransaction()) {
+            session.save(erin);
+            tx.rollback();
+        }
+
+        assertNull(erin.getId());
+        assertEquals(0, sessionFactory.openSession(baseNeoUrl()).countEntitiesOfType(Student.class));
+    }
+
+    @Test
+    public void shouldWriteEachOfSeveralEqualObjects() {
+        Session session = new SessionFactory("org.neo4j.ogm.domain.tags").openSession(baseNeoUrl(), 100);
+
+        Tag first = new Tag("graphs");
+        Tag second = new Tag("graphs");
+
+        try (Transaction tx = session.beginTransaction()) {
+            session.save(first);
+            session.save(second);
+            tx.commit();
+        }
+
+        assertNotNull(first.getId());
+        assertNotNull(second.getId());
+        assertEquals(2, session.countEntitiesOfType(Tag.class));
+    }
+
+    @Test
+    public void shouldWriteDirtyObjectsReachableThroughACleanSavedObject() {
+        Session session = sessionFactory.openSession(baseNeoUrl(), 100);
+
+        Course course = new Course("GCSE Biology");
+        Student grace = new Student("Grace");
+        course.setStudents(Arrays.asList(grace));
+        session.save(course);
+
+        try (Transaction tx = session.beginTransaction()) {
+            grace.setName("Gracie");
+            session.save(course);
+            tx.commit();
+        }
+
+        assertEquals("Gracie", sessionFactory.openSession(baseNeoUrl()).load(Student.class, grace.getId()).getName());
+    }
+
+    @Test
+    public void shouldSaveImmediatelyOutsideTransaction() {
+        Session session = sessionFactory.openSession(baseNeoUrl(), 100);
+
+        Student frank = new Student("Frank");
+        session.save(frank);
+
+        assertNotNull(frank.getId());
+    }
+}
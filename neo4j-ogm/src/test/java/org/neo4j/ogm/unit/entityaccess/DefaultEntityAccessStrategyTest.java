@@ -57,6 +57,35 @@ public class DefaultEntityAccessStrategyTest {
         assertTrue("The accessor method wasn't used to set the value", domainObject.fullyAnnotatedPropertyAccessorWasCalled);
     }
 
+    @Test
+    public void shouldReuseAccessorsOnceResolved() {
+        ClassInfo classInfo = this.domainInfo.getClass(DummyDomainObject.class.getName());
+
+        assertSame(this.entityAccessStrategy.getPropertyWriter(classInfo, "testAnnoProp"),
+                this.entityAccessStrategy.getPropertyWriter(classInfo, "testAnnoProp"));
+        assertSame(this.entityAccessStrategy.getPropertyReaders(classInfo), this.entityAccessStrategy.getPropertyReaders(classInfo));
+        assertSame(this.entityAccessStrategy.getRelationalWriter(classInfo, "CONTAINS", new Member()),
+                this.entityAccessStrategy.getRelationalWriter(classInfo, "CONTAINS", new Member()));
+
+        assertNull(this.entityAccessStrategy.getPropertyWriter(classInfo, "noSuchProperty"));
+        assertNull(this.entityAccessStrategy.getPropertyWriter(classInfo, "noSuchProperty"));
+    }
+
+    @Test
+    public void shouldWidenPrimitiveValuesWhenWritingFields() {
+        ClassInfo classInfo = this.domainInfo.getClass(DummyDomainObject.class.getName());
+
+        EntityAccess writer = this.entityAccessStrategy.getPropertyWriter(classInfo, "propertyWithoutAccessorMethods");
+        PropertyReader reader = this.entityAccessStrategy.getPropertyReader(classInfo, "propertyWithoutAccessorMethods");
+
+        DummyDomainObject domainObject = new DummyDomainObject();
+        writer.write(domainObject, 42);
+        assertEquals(42, reader.read(domainObject));
+
+        writer.write(domainObject, (short) 7);
+        assertEquals(7, domainObject.propertyWithoutAccessorMethods);
+    }
+
     @Test
     public void shouldPreferAnnotatedFieldToPlainMethodWhenFindingPropertyToSet() {
         ClassInfo classInfo = this.domainInfo.getClass(DummyDomainObject.class.getName());
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.unit.entityaccess;
+
+import org.junit.Test;
+import org.neo4j.ogm.annotation.NodeEntity;
+import org.neo4j.ogm.entityaccess.DefaultEntityAccessStrategy;
+import org.neo4j.ogm.entityaccess.EntityAccess;
+import org.neo4j.ogm.entityaccess.GeneratedPropertyAccess;
+import org.neo4j.ogm.entityaccess.PropertyReader;
+import org.neo4j.ogm.metadata.info.ClassInfo;
+import org.neo4j.ogm.metadata.info.DomainInfo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class GeneratedPropertyAccessTest {
+
+    private DefaultEntityAccessStrategy entityAccessStrategy = new DefaultEntityAccessStrategy();
+    private DomainInfo domainInfo = new DomainInfo("org.neo4j.ogm.unit.entityaccess");
+
+    @Test
+    public void shouldNotScanGeneratedPropertyAccessClasses() {
+        assertNull(domainInfo.getClass(Gadget.class.getName().replace('$', '_') + "_PropertyAccess"));
+    }
+
+    @Test
+    public void shouldUseGeneratedPropertyAccessWhenPresent() {
+        ClassInfo classInfo = domainInfo.getClass(Gadget.class.getName());
+
+        EntityAccess writer = entityAccessStrategy.getPropertyWriter(classInfo, "name");
+        PropertyReader reader = entityAccessStrategy.getPropertyReader(classInfo, "name");
+        assertEquals("GeneratedFieldWriter", writer.getClass().getSimpleName());
+        assertEquals("GeneratedFieldReader", reader.getClass().getSimpleName());
+
+        Gadget gadget = new Gadget();
+        writer.write(gadget, "Sprocket");
+        assertEquals("Sprocket", gadget.name);
+        assertEquals("Sprocket", reader.read(gadget));
+    }
+
+    @Test
+    public void shouldFallBackToReflectionForValuesNeedingConversion() {
+        ClassInfo classInfo = domainInfo.getClass(Gadget.class.getName());
+
+        EntityAccess writer = entityAccessStrategy.getPropertyWriter(classInfo, "rating");
+
+        Gadget gadget = new Gadget();
+        writer.write(gadget, 4);
+        assertEquals(4, gadget.rating);
+
+        writer.write(gadget, (short) 5);
+        assertEquals(5, gadget.rating);
+    }
+
+    @Test
+    public void shouldNotGenerateAccessToHiddenFields() throws Exception {
+        GeneratedPropertyAccess access = (GeneratedPropertyAccess) Class.forName(Widget.class.getName().replace('$', '_')
+                + GeneratedPropertyAccess.CLASS_NAME_SUFFIX).newInstance();
+
+        assertTrue(access.fields().contains("rating"));
+        assertFalse(access.fields().contains("name"));
+    }
+
+    @NodeEntity
+    static class Gadget {
+
+        Long id;
+        String name;
+        int rating;
+    }
+
+    // hides the package-visible name field of its superclass with a private one
+    @NodeEntity
+    static class Widget extends Gadget {
+
+        private String name;
+    }
+}
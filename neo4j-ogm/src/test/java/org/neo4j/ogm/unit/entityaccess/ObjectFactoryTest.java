@@ -18,13 +18,18 @@
 
 package org.neo4j.ogm.unit.entityaccess;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.domain.canonical.ArbitraryRelationshipEntity;
 import org.neo4j.ogm.domain.social.Individual;
 import org.neo4j.ogm.entityaccess.EntityFactory;
+import org.neo4j.ogm.entityaccess.InstantiationStrategy;
+import org.neo4j.ogm.entityaccess.Instantiator;
 import org.neo4j.ogm.metadata.MappingException;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.model.NodeModel;
@@ -84,4 +89,51 @@ public class ObjectFactoryTest {
         this.objectCreator.newObject(vertex);
     }
 
+    @Test
+    public void shouldCreateDistinctObjectsForRepeatedLabels() {
+        NodeModel vertex = new NodeModel();
+        vertex.setLabels(new String[] {"Female", "Individual", "Lass"});
+        Individual first = this.objectCreator.newObject(vertex);
+
+        vertex.setLabels(new String[] {"Female", "Individual", "Lass"});
+        Individual second = this.objectCreator.newObject(vertex);
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void shouldConsultRegisteredInstantiationStrategyOncePerClass() {
+        final Individual prototype = new Individual();
+        final int[] consulted = new int[1];
+
+        this.objectCreator.addInstantiationStrategy(new InstantiationStrategy() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> Instantiator<T> instantiatorFor(Class<T> type) {
+                consulted[0]++;
+                if (type != Individual.class) {
+                    return null;
+                }
+                return new Instantiator<T>() {
+                    @Override
+                    public T newInstance() {
+                        return (T) prototype;
+                    }
+                };
+            }
+        });
+
+        NodeModel vertex = new NodeModel();
+        vertex.setLabels(new String[] {"Individual"});
+
+        assertSame(prototype, this.objectCreator.newObject(vertex));
+        assertSame(prototype, this.objectCreator.newObject(vertex));
+        assertEquals(1, consulted[0]);
+
+        RelationshipModel edge = new RelationshipModel();
+        edge.setType("MEMBER_OF");
+        ArbitraryRelationshipEntity gary = this.objectCreator.newObject(edge);
+        assertNotNull(gary);
+    }
+
 }
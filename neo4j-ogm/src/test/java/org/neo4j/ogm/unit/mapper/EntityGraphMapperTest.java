@@ -22,6 +22,7 @@ import org.junit.*;
 import org.neo4j.cypher.javacompat.ExecutionEngine;
 import org.neo4j.cypher.javacompat.ExecutionResult;
 import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.ogm.cypher.compiler.CypherContext;
 import org.neo4j.ogm.cypher.statement.ParameterisedStatement;
 import org.neo4j.ogm.cypher.statement.ParameterisedStatements;
 import org.neo4j.ogm.domain.education.Course;
@@ -30,7 +31,10 @@ import org.neo4j.ogm.domain.education.Student;
 import org.neo4j.ogm.domain.education.Teacher;
 import org.neo4j.ogm.domain.forum.Forum;
 import org.neo4j.ogm.domain.forum.ForumTopicLink;
+import org.neo4j.ogm.domain.forum.Member;
 import org.neo4j.ogm.domain.forum.Topic;
+import org.neo4j.ogm.domain.forum.activity.Activity;
+import org.neo4j.ogm.domain.forum.activity.Post;
 import org.neo4j.ogm.domain.policy.Person;
 import org.neo4j.ogm.domain.policy.Policy;
 import org.neo4j.ogm.domain.social.Individual;
@@ -336,6 +340,122 @@ public class EntityGraphMapperTest {
                 + "(:Course {name:'GCSE Music'})-[:STUDENTS]->(:Student:DomainObject {name:'Yvonne'})");
     }
 
+    @Test
+    public void shouldSaveDirtyEntitiesReachableThroughCleanEntitiesWithUnchangedRelationships() {
+        Course chemistry = persistedChemistryCourse();
+        Student ben = chemistry.getStudents().get(1);
+
+        // only a related entity is modified
+        ben.setName("Benjamin");
+
+        CypherContext context = this.mapper.map(chemistry);
+
+        assertTrue(context.deregisteredRelationships().isEmpty());
+        assertFalse(context.entitiesWithMappedRelationships().contains(chemistry));
+        assertTrue(context.log().contains(ben));
+        executeStatementsAndAssertSameGraph(new ParameterisedStatements(context.getStatements()),
+                "CREATE (c:Course {name:'GCSE Chemistry'}), "
+                + "(c)-[:STUDENTS]->(:Student:DomainObject {name:'Abbie'}), "
+                + "(c)-[:STUDENTS]->(:Student:DomainObject {name:'Benjamin'})");
+    }
+
+    @Test
+    public void shouldSaveDirtyDescendantsOfCleanEntitiesWithUnchangedRelationships() {
+        Course chemistry = persistedChemistryCourse();
+        Student ben = chemistry.getStudents().get(1);
+
+        ExecutionResult executionResult = executionEngine.execute("MATCH (c:Course) WHERE id(c) = " + chemistry.getId()
+                + " CREATE (t:Teacher {name:'Mr White'})-[:COURSES]->(c) RETURN id(t) AS teacher_id");
+        Long teacherId = (Long) executionResult.iterator().next().get("teacher_id");
+
+        Teacher mrWhite = new Teacher();
+        mrWhite.setId(teacherId);
+        mrWhite.setName("Mr White");
+        mrWhite.setCourses(Arrays.asList(chemistry));
+
+        mappingContext.registerRelationship(new MappedRelationship(teacherId, "COURSES", chemistry.getId()));
+        mappingContext.remember(mrWhite);
+        mappingContext.rememberRelationships(mrWhite);
+
+        // only a grandchild of the root is modified
+        ben.setName("Benjamin");
+
+        CypherContext context = this.mapper.map(mrWhite, -1);
+
+        assertFalse(context.entitiesWithMappedRelationships().contains(mrWhite));
+        assertFalse(context.entitiesWithMappedRelationships().contains(chemistry));
+        assertTrue(context.log().contains(ben));
+        executeStatementsAndAssertSameGraph(new ParameterisedStatements(context.getStatements()),
+                "CREATE (t:Teacher {name:'Mr White'})-[:COURSES]->(c:Course {name:'GCSE Chemistry'}), "
+                + "(c)-[:STUDENTS]->(:Student:DomainObject {name:'Abbie'}), "
+                + "(c)-[:STUDENTS]->(:Student:DomainObject {name:'Benjamin'})");
+    }
+
+    @Test
+    public void shouldReevaluateRelationshipsWhenATargetIsReplacedByAnotherObject() {
+        Course chemistry = persistedChemistryCourse();
+        Student abbie = chemistry.getStudents().get(0);
+        Student ben = chemistry.getStudents().get(1);
+
+        Student impostor = new Student("Abbie");
+        impostor.setId(abbie.getId());
+        chemistry.setStudents(Arrays.asList(impostor, ben));
+
+        assertTrue(mappingContext.hasChangedRelationships(chemistry));
+        assertTrue(this.mapper.map(chemistry).entitiesWithMappedRelationships().contains(chemistry));
+    }
+
+    @Test
+    public void shouldTrackRelationshipsExposedThroughAccessorMethods() {
+        Post post = new Post();
+        post.setActivityId(1L);
+
+        Member member = new Member();
+        member.setId(2L);
+        member.setActivityList(Arrays.<Activity>asList(post));
+
+        mappingContext.rememberRelationships(member);
+        assertFalse(mappingContext.hasChangedRelationships(member));
+
+        Post copy = new Post();
+        copy.setActivityId(1L);
+        member.setActivityList(Arrays.<Activity>asList(copy));
+
+        assertTrue(mappingContext.hasChangedRelationships(member));
+    }
+
+    private Course persistedChemistryCourse() {
+        ExecutionResult executionResult = executionEngine.execute("CREATE (c:Course {name:'GCSE Chemistry'}), "
+                + "(c)-[:STUDENTS]->(a:Student:DomainObject {name:'Abbie'}), "
+                + "(c)-[:STUDENTS]->(b:Student:DomainObject {name:'Ben'}) "
+                + "RETURN id(c) AS course_id, id(a) AS aid, id(b) AS bid");
+        Map<String, ?> results = executionResult.iterator().next();
+
+        Long cid = (Long) results.get("course_id");
+        Long aid = (Long) results.get("aid");
+        Long bid = (Long) results.get("bid");
+
+        Course chemistry = new Course("GCSE Chemistry");
+        chemistry.setId(cid);
+
+        Student abbie = new Student("Abbie");
+        abbie.setId(aid);
+
+        Student ben = new Student("Ben");
+        ben.setId(bid);
+
+        chemistry.setStudents(Arrays.asList(abbie, ben));
+
+        mappingContext.registerRelationship(new MappedRelationship(cid, "STUDENTS", aid));
+        mappingContext.registerRelationship(new MappedRelationship(cid, "STUDENTS", bid));
+
+        mappingContext.remember(abbie);
+        mappingContext.remember(ben);
+        mappingContext.remember(chemistry);
+        mappingContext.rememberRelationships(chemistry);
+        return chemistry;
+    }
+
     @Test
     public void shouldCorrectlyRemoveRelationshipWhenItemIsMovedToDifferentCollection() {
         // start with one teacher teachers two courses, each with one student in
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.unit.mapper;
+
+import org.junit.Test;
+import org.neo4j.ogm.mapper.EntityRegister;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class EntityRegisterTest {
+
+    @Test
+    public void shouldRegisterEntitiesOnlyOnce() {
+        EntityRegister register = new EntityRegister();
+        Object first = new Object();
+
+        assertNull(register.putIfAbsent(0L, first));
+        assertSame(first, register.putIfAbsent(0L, new Object()));
+        assertSame(first, register.get(0L));
+        assertNull(register.get(1L));
+
+        assertNull(register.putIfAbsent(Long.MIN_VALUE, "min"));
+        assertNull(register.putIfAbsent(-1L, "minus one"));
+        assertEquals("min", register.get(Long.MIN_VALUE));
+        assertEquals("minus one", register.get(-1L));
+        assertEquals(3, register.size());
+
+        register.clear();
+        assertEquals(0, register.size());
+        assertNull(register.get(0L));
+    }
+
+    @Test
+    public void shouldBehaveLikeAMapThroughGrowthAndRemovals() {
+        EntityRegister register = new EntityRegister();
+        Map<Long, Object> expected = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 200000; i++) {
+            // a narrow range of ids, so that entries collide, are removed and are registered again
+            long id = random.nextInt(5000);
+            switch (random.nextInt(3)) {
+                case 0:
+                    Object entity = new Object();
+                    Object registered = expected.containsKey(id) ? expected.get(id) : null;
+                    if (registered == null) {
+                        expected.put(id, entity);
+                    }
+                    assertSame(registered, register.putIfAbsent(id, entity));
+                    break;
+                case 1:
+                    assertSame(expected.remove(id), register.remove(id));
+                    break;
+                default:
+                    assertSame(expected.get(id), register.get(id));
+            }
+        }
+        assertEquals(expected.size(), register.size());
+        for (Map.Entry<Long, Object> entry : expected.entrySet()) {
+            assertSame(entry.getValue(), register.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    public void shouldRegisterEntitiesConcurrently() throws Exception {
+        final EntityRegister register = new EntityRegister();
+        final int threads = 8;
+        final int idsPerThread = 50000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int thread = t;
+                results.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        // every thread registers every id, but interleaved differently
+                        for (int i = 0; i < idsPerThread; i++) {
+                            long id = (i * 31L + thread * 7919L) % idsPerThread;
+                            register.putIfAbsent(id, Long.valueOf(id));
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(idsPerThread, register.size());
+        for (long id = 0; id < idsPerThread; id++) {
+            assertEquals(id, register.get(id));
+        }
+    }
+}
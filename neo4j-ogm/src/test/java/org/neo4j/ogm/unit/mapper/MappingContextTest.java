@@ -20,6 +20,7 @@ package org.neo4j.ogm.unit.mapper;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.neo4j.ogm.domain.policy.DomainObject;
 import org.neo4j.ogm.domain.policy.Person;
 import org.neo4j.ogm.domain.policy.Policy;
 import org.neo4j.ogm.mapper.MappedRelationship;
@@ -27,11 +28,13 @@ import org.neo4j.ogm.mapper.MappingContext;
 import org.neo4j.ogm.metadata.MetaData;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public class MappingContextTest {
@@ -84,6 +87,35 @@ public class MappingContextTest {
 
     }
 
+    @Test
+    public void clearMany() {
+
+        Person jim = new Person("jim");
+        jim.setId(1L);
+
+        Person rik = new Person("rik");
+        rik.setId(2L);
+
+        Policy policy = new Policy("healthcare");
+        policy.setId(3L);
+
+        collector.registerNodeEntity(jim, jim.getId());
+        collector.registerNodeEntity(rik, rik.getId());
+        collector.registerNodeEntity(policy, policy.getId());
+        collector.registerRelationship(new MappedRelationship(jim.getId(), "INFLUENCES", policy.getId()));
+        collector.registerRelationship(new MappedRelationship(rik.getId(), "WORKS_WITH", jim.getId()));
+        collector.registerRelationship(new MappedRelationship(rik.getId(), "INFLUENCES", policy.getId()));
+
+        collector.clearAll(Arrays.asList(jim, policy));
+
+        assertEquals(null, collector.get(jim.getId()));
+        assertEquals(null, collector.get(policy.getId()));
+        assertEquals(rik, collector.get(rik.getId()));
+        assertEquals(0, collector.getAll(Policy.class).size());
+        assertEquals(0, collector.mappedRelationships().size());
+
+    }
+
     @Test
     public void clearType() {
         Person jim = new Person("jim");
@@ -151,6 +183,114 @@ public class MappingContextTest {
 
     }
 
+    @Test
+    public void evictLeastRecentlyUsed() {
+        collector.setCapacity(2);
+
+        List<Person> people = new ArrayList<>();
+        for (long id = 1; id <= 4; id++) {
+            Person person = new Person("person " + id);
+            person.setId(id);
+            collector.registerNodeEntity(person, id);
+            collector.remember(person);
+            people.add(person);
+        }
+        collector.registerRelationship(new MappedRelationship(1L, "INFLUENCES", 3L));
+        collector.registerRelationship(new MappedRelationship(2L, "INFLUENCES", 3L));
+        collector.registerRelationship(new MappedRelationship(3L, "INFLUENCES", 4L));
+        collector.rememberRelationships(people.get(1));
+
+        // 1 is used again, so 2 and then 3 are the least recently used
+        collector.get(1L);
+
+        assertEquals(2, collector.evict());
+        assertEquals(2, collector.evictions());
+
+        assertEquals(people.get(0), collector.get(1L));
+        assertNull(collector.get(2L));
+        assertNull(collector.get(3L));
+        assertEquals(people.get(3), collector.get(4L));
+        assertEquals(2, collector.getAll(Person.class).size());
+        assertEquals(2, collector.getAll(DomainObject.class).size());
+        assertTrue(collector.isDirty(people.get(1)));
+        assertTrue(collector.hasChangedRelationships(people.get(1)));
+
+        // only the relationship between two evicted entities is forgotten
+        assertEquals(2, collector.mappedRelationships().size());
+        assertTrue(collector.isRegisteredRelationship(new MappedRelationship(1L, "INFLUENCES", 3L)));
+        assertTrue(collector.isRegisteredRelationship(new MappedRelationship(3L, "INFLUENCES", 4L)));
+
+        assertEquals(0, collector.evict());
+    }
+
+    @Test
+    public void forgetRelationshipsOnceBothEndsAreEvicted() {
+        collector.setCapacity(1);
+
+        for (long id = 1; id <= 2; id++) {
+            Person person = new Person("person " + id);
+            person.setId(id);
+            collector.registerNodeEntity(person, id);
+            collector.remember(person);
+        }
+        collector.registerRelationship(new MappedRelationship(1L, "INFLUENCES", 2L));
+
+        assertEquals(1, collector.evict());
+        assertNull(collector.get(1L));
+        assertEquals(1, collector.mappedRelationships().size());
+
+        Person person = new Person("person 3");
+        person.setId(3L);
+        collector.registerNodeEntity(person, 3L);
+        collector.remember(person);
+
+        assertEquals(1, collector.evict());
+        assertNull(collector.get(2L));
+        assertTrue(collector.mappedRelationships().isEmpty());
+    }
+
+    @Test
+    public void doNotEvictModifiedEntities() {
+        collector.setCapacity(1);
+
+        Person jim = new Person("jim");
+        jim.setId(1L);
+        Person bob = new Person("bob");
+        bob.setId(2L);
+        collector.registerNodeEntity(jim, jim.getId());
+        collector.remember(jim);
+        collector.registerNodeEntity(bob, bob.getId());
+        collector.remember(bob);
+
+        jim.setName("jimmy");
+
+        assertEquals(1, collector.evict());
+        assertEquals(jim, collector.get(1L));
+        assertNull(collector.get(2L));
+
+        // the capacity is exceeded, but the remaining entity is still modified
+        Person tom = new Person("tom");
+        tom.setId(3L);
+        collector.registerNodeEntity(tom, tom.getId());
+        assertEquals(0, collector.evict());
+        assertEquals(1, collector.evictions());
+    }
+
+    @Test
+    public void trackEntitiesRegisteredBeforeCapacityIsSet() {
+        for (long id = 1; id <= 3; id++) {
+            Person person = new Person("person " + id);
+            person.setId(id);
+            collector.registerNodeEntity(person, id);
+            collector.remember(person);
+        }
+        assertEquals(0, collector.evict());
+
+        collector.setCapacity(1);
+        assertEquals(2, collector.evict());
+        assertEquals(1, collector.getAll(Person.class).size());
+    }
+
     public class TestObject {
         Long id = null;
         List<String> notes = new ArrayList<>();
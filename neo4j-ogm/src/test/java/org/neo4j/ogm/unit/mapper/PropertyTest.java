@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.unit.mapper;
+
+import org.junit.Test;
+import org.neo4j.ogm.model.Property;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class PropertyTest {
+
+    @Test
+    public void shouldCoerceNumbersByType() {
+        assertEquals(42L, Property.with("n", 42).asParameter());
+        assertEquals(42L, Property.with("n", (short) 42).asParameter());
+        assertEquals(42L, Property.with("n", (byte) 42).asParameter());
+        assertEquals(42L, Property.with("n", 42L).asParameter());
+        assertEquals(2.0, Property.with("n", 2.0).asParameter());
+        assertEquals(0.1, Property.with("n", 0.1f).asParameter());
+        assertEquals("45 Eugenia", Property.with("n", "45 Eugenia").asParameter());
+        assertEquals("42", Property.with("n", "42").asParameter());
+        assertNull(Property.with("n", null).asParameter());
+    }
+
+    @Test
+    public void shouldPassBooleansAndEnumsAsStrings() {
+        assertEquals("true", Property.with("n", Boolean.TRUE).asParameter());
+        assertEquals("NEW", Property.with("n", Thread.State.NEW).asParameter());
+    }
+
+    @Test
+    public void shouldCoerceOtherNumbersByType() {
+        assertEquals(9223372036854775807L, Property.with("n", new BigInteger("9223372036854775807")).asParameter());
+        assertEquals(9223372036854775808.0, Property.with("n", new BigInteger("9223372036854775808")).asParameter());
+        assertEquals(-9223372036854775808L, Property.with("n", new BigInteger("-9223372036854775808")).asParameter());
+        assertEquals(1.5, Property.with("n", new BigDecimal("1.5")).asParameter());
+        assertEquals(100L, Property.with("n", new BigDecimal("100")).asParameter());
+        assertEquals(1000.0, Property.with("n", new BigDecimal("1E+3")).asParameter());
+        assertEquals(7L, Property.with("n", new AtomicLong(7)).asParameter());
+        assertEquals(7L, Property.with("n", new AtomicInteger(7)).asParameter());
+    }
+
+    @Test
+    public void shouldConvertOtherValuesByTheFormOfTheirStringRepresentation() {
+        assertEquals(7L, Property.with("n", '7').asParameter());
+        assertEquals("x", Property.with("n", 'x').asParameter());
+        assertEquals(-12L, Property.with("n", new StringBuilder("-12")).asParameter());
+        assertEquals(12L, Property.with("n", new StringBuilder("+12")).asParameter());
+        assertEquals(12345678901234567890.0, Property.with("n", new StringBuilder("12345678901234567890")).asParameter());
+        assertEquals(-0.5, Property.with("n", new StringBuilder("-.5")).asParameter());
+        assertEquals(1.0, Property.with("n", new StringBuilder("1.")).asParameter());
+        assertEquals(1.5e-3, Property.with("n", new StringBuilder("1.5E-3")).asParameter());
+        assertEquals("12a", Property.with("n", new StringBuilder("12a")).asParameter());
+        assertEquals("1e", Property.with("n", new StringBuilder("1e")).asParameter());
+        assertEquals(".", Property.with("n", new StringBuilder(".")).asParameter());
+        assertEquals("-", Property.with("n", new StringBuilder("-")).asParameter());
+        assertEquals("", Property.with("n", new StringBuilder()).asParameter());
+    }
+}
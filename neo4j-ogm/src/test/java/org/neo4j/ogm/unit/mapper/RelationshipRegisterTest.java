@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.unit.mapper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.mapper.MappedRelationship;
+import org.neo4j.ogm.mapper.RelationshipRegister;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RelationshipRegisterTest {
+
+    private RelationshipRegister register;
+
+    @Before
+    public void setUp() {
+        register = new RelationshipRegister();
+        register.add(new MappedRelationship(1L, "INFLUENCES", 2L));
+        register.add(new MappedRelationship(1L, "INFLUENCES", 3L));
+        register.add(new MappedRelationship(1L, "WORKS_WITH", 4L));
+        register.add(new MappedRelationship(4L, "WORKS_WITH", 1L));
+        register.add(new MappedRelationship(5L, "INFLUENCES", 2L));
+    }
+
+    @Test
+    public void shouldIndexByNode() {
+        assertEquals(5, register.size());
+        assertEquals(3, register.outgoing(1L).size());
+        assertEquals(2, register.incoming(2L).size());
+        assertEquals(4, register.attachedTo(1L).size());
+        assertEquals(0, register.attachedTo(99L).size());
+    }
+
+    @Test
+    public void shouldNotIndexDuplicates() {
+        assertFalse(register.add(new MappedRelationship(1L, "INFLUENCES", 2L)));
+        assertEquals(3, register.outgoing(1L).size());
+    }
+
+    @Test
+    public void shouldRemoveOutgoingRelationshipsOfType() {
+        register.removeOutgoing(1L, "INFLUENCES");
+
+        assertEquals(3, register.size());
+        assertFalse(register.contains(new MappedRelationship(1L, "INFLUENCES", 2L)));
+        assertTrue(register.contains(new MappedRelationship(5L, "INFLUENCES", 2L)));
+        assertEquals(1, register.incoming(2L).size());
+    }
+
+    @Test
+    public void shouldRemoveIncomingRelationshipsOfType() {
+        register.removeIncoming(2L, "INFLUENCES");
+
+        assertEquals(3, register.size());
+        assertEquals(2, register.outgoing(1L).size());
+        assertEquals(0, register.outgoing(5L).size());
+    }
+
+    @Test
+    public void shouldRemoveAllRelationshipsAttachedToNode() {
+        register.removeAttachedTo(1L);
+
+        assertEquals(1, register.size());
+        assertTrue(register.contains(new MappedRelationship(5L, "INFLUENCES", 2L)));
+        assertEquals(0, register.incoming(4L).size());
+        assertEquals(1, register.incoming(2L).size());
+    }
+
+    @Test
+    public void shouldKeepIndexesConsistentWhenRemovingThroughIterator() {
+        Iterator<MappedRelationship> iterator = register.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getRelationshipType().equals("WORKS_WITH")) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(3, register.size());
+        assertEquals(0, register.incoming(1L).size());
+        assertEquals(2, register.attachedTo(1L).size());
+        assertEquals(0, register.attachedTo(4L).size());
+    }
+
+    @Test
+    public void shouldFindRelationshipsOfTypeByDirection() {
+        assertEquals(2, register.outgoing(1L, "INFLUENCES").size());
+        assertEquals(1, register.outgoing(1L, "WORKS_WITH").size());
+        assertEquals(0, register.outgoing(2L, "INFLUENCES").size());
+        assertEquals(1, register.incoming(1L, "WORKS_WITH").size());
+        assertEquals(0, register.incoming(1L, "INFLUENCES").size());
+        assertEquals(2, register.incoming(2L, "INFLUENCES").size());
+    }
+
+    @Test
+    public void shouldIterateSnapshotsWhileTheRegisterIsModified() {
+        List<MappedRelationship> outgoing = register.outgoing(1L);
+        for (MappedRelationship relationship : outgoing) {
+            register.remove(relationship);
+            register.add(new MappedRelationship(relationship.getStartNodeId(), "REPLACED", relationship.getEndNodeId()));
+        }
+        assertEquals(3, outgoing.size());
+        assertEquals(3, register.outgoing(1L, "REPLACED").size());
+        assertEquals(0, register.outgoing(1L, "INFLUENCES").size());
+
+        for (MappedRelationship relationship : register.attachedTo(1L)) {
+            register.removeAttachedTo(relationship.getEndNodeId());
+        }
+        assertEquals(0, register.attachedTo(1L).size());
+        assertTrue(register.isEmpty());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.unit.mapper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatement;
+import org.neo4j.ogm.domain.catalogue.Category;
+import org.neo4j.ogm.domain.catalogue.Product;
+import org.neo4j.ogm.mapper.EntityGraphMapper;
+import org.neo4j.ogm.mapper.MappingContext;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metadata.info.ClassInfo;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class UniqueIndexMergeTest {
+
+    private MetaData metaData;
+    private EntityGraphMapper mapper;
+
+    @Before
+    public void setUp() {
+        metaData = new MetaData("org.neo4j.ogm.domain.catalogue");
+        mapper = new EntityGraphMapper(metaData, new MappingContext(metaData));
+    }
+
+    @Test
+    public void shouldFindUniqueIndexField() {
+        ClassInfo classInfo = metaData.classInfo("Product");
+        assertEquals("sku", classInfo.uniqueIndexField().getName());
+        assertEquals("Product", classInfo.uniqueIndexLabel());
+    }
+
+    @Test
+    public void shouldMergeNewNodeOnUniqueIndexField() {
+        Product product = new Product("XB-100", "Kettle");
+
+        List<ParameterisedStatement> statements = mapper.map(product).getStatements();
+
+        assertEquals(1, statements.size());
+        assertEquals("MERGE (_0:`Product`{`sku`:{_0_key}}) SET _0+={_0_props}, _0:`Product` RETURN id(_0) AS _0", statements.get(0).getStatement());
+        assertEquals("XB-100", statements.get(0).getParameters().get("_0_key"));
+    }
+
+    @Test
+    public void shouldMergeRelatedNodesAfterCreatingTheOthers() {
+        Product product = new Product(null, "Unlabelled kettle");
+        product.setCategory(new Category("Kitchen"));
+
+        String statement = mapper.map(product).getStatements().get(0).getStatement();
+
+        assertEquals("CREATE (_0:`Product`{_0_props}) WITH _0 MERGE (_2:`Category`{`name`:{_2_key}}) SET _2+={_2_props}, _2:`Category`" +
+                " WITH _0,_2 MERGE (_0)-[_1:`CATEGORY`]->(_2) RETURN id(_0) AS _0, id(_1) AS _1, id(_2) AS _2", statement);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.unit.mapper.cypher;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.compiler.CypherContext;
+import org.neo4j.ogm.mapper.MappedRelationship;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CypherContextTest {
+
+    private CypherContext context;
+
+    @Before
+    public void setUp() {
+        context = new CypherContext();
+        context.registerRelationship(new MappedRelationship(1L, "INFLUENCES", 2L));
+        context.registerRelationship(new MappedRelationship(1L, "INFLUENCES", 3L));
+        context.registerRelationship(new MappedRelationship(1L, "WORKS_WITH", 4L));
+        context.registerRelationship(new MappedRelationship(4L, "INFLUENCES", 1L));
+    }
+
+    @Test
+    public void shouldDeregisterOutgoingRelationshipsOfType() {
+        context.deregisterOutgoingRelationships(1L, "INFLUENCES");
+
+        assertEquals(2, context.registeredRelationships().size());
+        assertEquals(2, context.deregisteredRelationships().size());
+        assertTrue(context.deregisteredRelationships().contains(new MappedRelationship(1L, "INFLUENCES", 2L)));
+        assertTrue(context.deregisteredRelationships().contains(new MappedRelationship(1L, "INFLUENCES", 3L)));
+        assertTrue(context.isRegisteredRelationship(new MappedRelationship(1L, "WORKS_WITH", 4L)));
+        assertTrue(context.isRegisteredRelationship(new MappedRelationship(4L, "INFLUENCES", 1L)));
+    }
+
+    @Test
+    public void shouldDeregisterIncomingRelationshipsOfType() {
+        context.deregisterIncomingRelationships(1L, "INFLUENCES");
+
+        assertEquals(3, context.registeredRelationships().size());
+        assertEquals(1, context.deregisteredRelationships().size());
+        assertFalse(context.isRegisteredRelationship(new MappedRelationship(4L, "INFLUENCES", 1L)));
+
+        context.deregisterIncomingRelationships(1L, "WORKS_WITH");
+        assertEquals(3, context.registeredRelationships().size());
+    }
+
+    @Test
+    public void shouldDeregisterRelationshipsNotInTheContext() {
+        MappedRelationship mapped = new MappedRelationship(5L, "INFLUENCES", 1L);
+        context.deregisterRelationship(mapped);
+
+        assertEquals(4, context.registeredRelationships().size());
+        assertTrue(context.deregisteredRelationships().contains(mapped));
+    }
+}
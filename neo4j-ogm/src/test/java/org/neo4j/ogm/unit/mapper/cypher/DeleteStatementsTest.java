@@ -19,9 +19,11 @@
 package org.neo4j.ogm.unit.mapper.cypher;
 
 import org.junit.Test;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatement;
 import org.neo4j.ogm.session.request.strategy.DeleteStatements;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 
@@ -40,12 +42,23 @@ public class DeleteStatementsTest {
     }
 
     @Test
-    public void testPurge() {
-        assertEquals("MATCH (n) OPTIONAL MATCH (n)-[r]-() DELETE r, n", statements.purge().getStatement());
+    public void testDeleteAllInBatches() {
+        List<ParameterisedStatement> batches = statements.deleteAll(Arrays.asList(1L, 2L, 3L, 4L, 5L), 2);
+        assertEquals(3, batches.size());
+        assertEquals("MATCH (n) WHERE id(n) in { ids } OPTIONAL MATCH (n)-[r]-() DELETE r, n", batches.get(0).getStatement());
+        assertEquals(Arrays.asList(1L, 2L), batches.get(0).getParameters().get("ids"));
+        assertEquals(Arrays.asList(5L), batches.get(2).getParameters().get("ids"));
     }
 
     @Test
-    public void testDeleteByLabel() {
-        assertEquals("MATCH (n:TRAFFIC_WARDENS) OPTIONAL MATCH (n)-[r]-() DELETE r, n", statements.deleteByLabel("TRAFFIC_WARDENS").getStatement());
+    public void testPurgeInBatches() {
+        ParameterisedStatement batch = statements.purge(500);
+        assertEquals("MATCH (n) WITH n LIMIT { limit } OPTIONAL MATCH (n)-[r]-() WITH n, id(n) AS id, collect(r) AS rels FOREACH (r IN rels | DELETE r) DELETE n RETURN id", batch.getStatement());
+        assertEquals(500, batch.getParameters().get("limit"));
+    }
+
+    @Test
+    public void testDeleteByLabelInBatches() {
+        assertEquals("MATCH (n:TRAFFIC_WARDENS) WITH n LIMIT { limit } OPTIONAL MATCH (n)-[r]-() WITH n, id(n) AS id, collect(r) AS rels FOREACH (r IN rels | DELETE r) DELETE n RETURN id", statements.deleteByLabel("TRAFFIC_WARDENS", 500).getStatement());
     }
 }
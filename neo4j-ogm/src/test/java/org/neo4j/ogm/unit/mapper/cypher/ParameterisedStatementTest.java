@@ -116,16 +116,16 @@ public class ParameterisedStatementTest {
 
     @Test
     public void deleteAllByLabel() throws Exception {
-        statement = new DeleteStatements().deleteByLabel("NODE");
-        assertEquals("MATCH (n:NODE) OPTIONAL MATCH (n)-[r]-() DELETE r, n", statement.getStatement());
-        assertEquals("{}", mapper.writeValueAsString(statement.getParameters()));
+        statement = new DeleteStatements().deleteByLabel("NODE", 500);
+        assertEquals("MATCH (n:NODE) WITH n LIMIT { limit } OPTIONAL MATCH (n)-[r]-() WITH n, id(n) AS id, collect(r) AS rels FOREACH (r IN rels | DELETE r) DELETE n RETURN id", statement.getStatement());
+        assertEquals("{\"limit\":500}", mapper.writeValueAsString(statement.getParameters()));
     }
 
     @Test
     public void purge() throws Exception {
-        statement = new DeleteStatements().purge();
-        assertEquals("MATCH (n) OPTIONAL MATCH (n)-[r]-() DELETE r, n", statement.getStatement());
-        assertEquals("{}", mapper.writeValueAsString(statement.getParameters()));
+        statement = new DeleteStatements().purge(500);
+        assertEquals("MATCH (n) WITH n LIMIT { limit } OPTIONAL MATCH (n)-[r]-() WITH n, id(n) AS id, collect(r) AS rels FOREACH (r IN rels | DELETE r) DELETE n RETURN id", statement.getStatement());
+        assertEquals("{\"limit\":500}", mapper.writeValueAsString(statement.getParameters()));
     }
 
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.neo4j.ogm.unit.metadata;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.neo4j.ogm.metadata.index.ClassIndex;
+import org.neo4j.ogm.metadata.index.ClassIndexProcessor;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ClassIndexTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ClassLoader classLoader = ClassIndexTest.class.getClassLoader();
+
+    @Test
+    public void shouldListIndexedClassFilesInRequestedPackages() {
+        List<URL> classFiles = ClassIndex.classFiles(Arrays.asList("org/neo4j/ogm/domain/forum"), classLoader);
+
+        assertNotNull(classFiles);
+        boolean member = false;
+        for (URL classFile : classFiles) {
+            assertTrue(classFile.getPath().contains("/org/neo4j/ogm/domain/forum/"));
+            member |= classFile.getPath().endsWith("/org/neo4j/ogm/domain/forum/Member.class");
+        }
+        assertTrue(member);
+    }
+
+    @Test
+    public void shouldIncludeSubPackagesAndNestedClasses() {
+        List<URL> classFiles = ClassIndex.classFiles(Arrays.asList("org/neo4j/ogm/domain/forum"), classLoader);
+
+        boolean activity = false;
+        for (URL classFile : classFiles) {
+            activity |= classFile.getPath().endsWith("/org/neo4j/ogm/domain/forum/activity/Activity.class");
+        }
+        assertTrue(activity);
+    }
+
+    @Test
+    public void shouldNotUseIndexUnlessEveryPackageIsIndexed() {
+        assertNull(ClassIndex.classFiles(Arrays.asList("org/neo4j/ogm/domain/forum", "org/junit"), classLoader));
+    }
+
+    @Test
+    public void shouldKeepOtherClassesIndexedWhenOneClassIsRecompiled() throws Exception {
+        File sources = folder.newFolder("src");
+        File classes = folder.newFolder("classes");
+        File alpha = source(sources, "Alpha");
+        File beta = source(sources, "Beta");
+
+        compile(classes, alpha, beta);
+        assertEquals(Arrays.asList("indexed/Alpha.class", "indexed/Beta.class"), index(classes));
+
+        compile(classes, alpha);
+        assertEquals(Arrays.asList("indexed/Alpha.class", "indexed/Beta.class"), index(classes));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { classes.toURI().toURL() }, null)) {
+            assertEquals(2, ClassIndex.classFiles(Arrays.asList("indexed"), loader).size());
+        }
+    }
+
+    @Test
+    public void shouldNotUseIndexThatDoesNotMatchTheClassPath() throws Exception {
+        File sources = folder.newFolder("src");
+        File classes = folder.newFolder("classes");
+        compile(classes, source(sources, "Alpha"), source(sources, "Beta"));
+        File index = new File(classes, ClassIndex.LOCATION);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { classes.toURI().toURL() }, null)) {
+            Files.write(index.toPath(), new byte[0]);
+            assertNull(ClassIndex.classFiles(Arrays.asList("indexed"), loader));
+
+            Files.write(index.toPath(), "indexed/Alpha.class\nindexed/Gamma.class\n".getBytes(StandardCharsets.UTF_8));
+            assertNull(ClassIndex.classFiles(Arrays.asList("indexed"), loader));
+        }
+    }
+
+    private static File source(File sources, String name) throws IOException {
+        File source = new File(sources, "indexed/" + name + ".java");
+        source.getParentFile().mkdirs();
+        Files.write(source.toPath(), ("package indexed; public class " + name + " {}").getBytes(StandardCharsets.UTF_8));
+        return source;
+    }
+
+    private static void compile(File classes, File... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            List<String> options = Arrays.asList("-d", classes.getPath(), "-classpath", classes.getPath());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null,
+                    fileManager.getJavaFileObjects(sources));
+            task.setProcessors(Collections.singletonList(new ClassIndexProcessor()));
+            assertTrue(task.call());
+        }
+    }
+
+    private static List<String> index(File classes) throws IOException {
+        return Files.readAllLines(new File(classes, ClassIndex.LOCATION).toPath(), StandardCharsets.UTF_8);
+    }
+}
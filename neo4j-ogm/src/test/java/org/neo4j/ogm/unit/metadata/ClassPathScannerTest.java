@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.neo4j.ogm.unit.metadata;
+
+import org.junit.Test;
+import org.neo4j.ogm.annotation.NodeEntity;
+import org.neo4j.ogm.metadata.ClassPathScanner;
+import org.neo4j.ogm.metadata.info.ClassFileProcessor;
+import org.neo4j.ogm.metadata.info.ClassInfo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ClassPathScannerTest {
+
+    private static final List<String> DOMAIN = Arrays.asList("org/neo4j/ogm/domain");
+
+    @Test
+    public void shouldFindTheSameClassesWhetherParsingInParallelOrNot() {
+        ClassNameCollector sequential = new ClassNameCollector();
+        new ClassPathScanner(1).scan(DOMAIN, sequential);
+
+        ClassNameCollector parallel = new ClassNameCollector();
+        new ClassPathScanner(4).scan(DOMAIN, parallel);
+
+        assertTrue(sequential.classNames.size() > 32);
+        assertTrue(sequential.classNames.contains("org.neo4j.ogm.domain.forum.Member"));
+        assertEquals(sequential.classNames, parallel.classNames);
+        assertTrue(parallel.finished);
+    }
+
+    @Test
+    public void shouldNotScanNestedPackageFoldersTwice() {
+        // the main classes have no class index, so their folders are walked
+        ClassNameCollector outer = new ClassNameCollector();
+        new ClassPathScanner(1).scan(Arrays.asList("org/neo4j/ogm/metadata"), outer);
+
+        ClassNameCollector nested = new ClassNameCollector();
+        new ClassPathScanner(1).scan(Arrays.asList("org/neo4j/ogm/metadata", "org/neo4j/ogm/metadata/info"), nested);
+
+        assertTrue(outer.classNames.contains("org.neo4j.ogm.metadata.info.ClassInfo"));
+        assertEquals(outer.processed.get(), nested.processed.get());
+        assertEquals(outer.classNames.size(), outer.processed.get());
+    }
+
+    @Test
+    public void shouldDecodeNonAsciiConstants() throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream("ClassPathScannerTest$Cafe.class")) {
+            assertEquals("Caf\u00e9", new ClassInfo(inputStream).label());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectParallelismBelowOne() {
+        new ClassPathScanner(0);
+    }
+
+    private static class ClassNameCollector implements ClassFileProcessor {
+
+        private final AtomicInteger processed = new AtomicInteger();
+        private final Set<String> classNames = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        private boolean finished;
+
+        @Override
+        public void process(InputStream inputStream) throws IOException {
+            processed.incrementAndGet();
+            classNames.add(new ClassInfo(inputStream).name());
+        }
+
+        @Override
+        public void validate() {
+        }
+
+        @Override
+        public void finish() {
+            finished = true;
+        }
+    }
+
+    @NodeEntity(label = "Caf\u00e9")
+    static class Cafe {
+    }
+}
@@ -21,7 +21,10 @@ package org.neo4j.ogm.unit.metadata;
 import org.junit.Test;
 import org.neo4j.ogm.domain.education.Student;
 import org.neo4j.ogm.domain.forum.Member;
+import org.neo4j.ogm.domain.forum.Topic;
 import org.neo4j.ogm.domain.forum.activity.Activity;
+import org.neo4j.ogm.entityaccess.EntityAccessStrategy;
+import org.neo4j.ogm.entityaccess.PropertyReader;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.metadata.info.ClassInfo;
 import org.neo4j.ogm.metadata.info.FieldInfo;
@@ -55,6 +58,25 @@ public class MetaDataTest {
         assertEquals("org.neo4j.ogm.domain.forum.BronzeMembership", metaData.classInfo("Bronze").name());
     }
 
+    /**
+     * A class can be found via its annotated relationship type
+     */
+    @Test
+    public void testRelationshipEntityClassInfo() {
+        assertEquals("org.neo4j.ogm.domain.forum.ForumTopicLink", metaData.classInfo("HAS_TOPIC").name());
+    }
+
+    /**
+     * A class can be found by its fully-qualified name or any trailing part of it
+     */
+    @Test
+    public void testQualifiedClassInfo() {
+        assertEquals("org.neo4j.ogm.domain.forum.Topic", metaData.classInfo("org.neo4j.ogm.domain.forum.Topic").name());
+        assertEquals("org.neo4j.ogm.domain.forum.Topic", metaData.classInfo("forum.Topic").name());
+        assertSame(metaData.classInfo("Topic"), metaData.classInfo(new Topic()));
+        assertNull(metaData.classInfo("orum.Topic"));
+    }
+
     /**
      * The default identity field is a Long type called "id"
      */
@@ -564,6 +586,43 @@ public class MetaDataTest {
         assertEquals("org.neo4j.ogm.domain.forum.SilverMembership", metaData.resolve("Silver", "Pewter", "Tin").name());
     }
 
+    @Test
+    public void testResolvedTaxaAreRemembered() {
+        MetaData forum = new MetaData("org.neo4j.ogm.domain.forum");
+
+        String[] taxa = {"Silver", "Pewter", "Tin"};
+        ClassInfo silver = forum.resolve(taxa);
+        assertEquals("org.neo4j.ogm.domain.forum.SilverMembership", silver.name());
+
+        // the remembered taxa must not be affected by changes to the caller's array
+        taxa[1] = "Topic";
+        assertSame(silver, forum.resolve("Silver", "Pewter", "Tin"));
+        assertNull(forum.resolve(taxa));
+    }
+
+    @Test
+    public void testDomainTaxaCanBeResolvedAheadOfTime() {
+        MetaData forum = new MetaData("org.neo4j.ogm.domain.forum");
+        assertTrue(forum.resolveDomainTaxa() > 0);
+        assertEquals("org.neo4j.ogm.domain.forum.ForumTopicLink", forum.resolve("HAS_TOPIC").name());
+    }
+
+    @Test
+    public void testWarmUpPreparesEntityClasses() {
+        MetaData forum = new MetaData("org.neo4j.ogm.domain.forum");
+        ClassInfo member = forum.classInfo("Member");
+        EntityAccessStrategy strategy = forum.entityAccessStrategy();
+
+        assertTrue(forum.warmUp() > 0);
+
+        Collection<PropertyReader> propertyReaders = strategy.getPropertyReaders(member);
+        assertFalse(propertyReaders.isEmpty());
+        assertSame(propertyReaders, strategy.getPropertyReaders(member));
+        assertSame(strategy.getIdentityPropertyReader(member), strategy.getIdentityPropertyReader(member));
+        assertTrue(forum.entityFactory().prepare("Topic"));
+        assertFalse(forum.entityFactory().prepare("Knight", "Baronet"));
+    }
+
     @Test
     public void testLabelsForClassInfo() {
         ClassInfo annotatedClassInfo = metaData.classInfo(Member.class.getSimpleName());
@@ -577,5 +636,17 @@ public class MetaDataTest {
         assertEquals(Arrays.asList("Student", "DomainObject"), nonAnnotatedClassInfo.labels());
     }
 
+    @Test
+    public void testReflectiveLookupsAreResolvedOnce() {
+        ClassInfo classInfo = metaData.classInfo("Member");
+
+        FieldInfo identityField = classInfo.identityField();
+        assertSame(identityField, classInfo.identityField());
+        assertSame(classInfo.getField(identityField), classInfo.getField(identityField));
+
+        MethodInfo getter = classInfo.relationshipGetter("HAS_ACTIVITY");
+        assertSame(classInfo.getMethod(getter), classInfo.getMethod(getter));
+        assertEquals("getActivityList", classInfo.getMethod(getter).getName());
+    }
 
 }
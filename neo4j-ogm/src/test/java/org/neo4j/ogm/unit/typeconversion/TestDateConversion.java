@@ -27,7 +27,16 @@ import org.neo4j.ogm.typeconversion.AttributeConverter;
 import org.neo4j.ogm.typeconversion.DateLongConverter;
 import org.neo4j.ogm.typeconversion.DateStringConverter;
 
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -129,4 +138,73 @@ public class TestDateConversion {
         assertEquals(null, attributeConverter.toGraphProperty(null));
     }
 
+    @Test
+    public void assertISO8601ConversionAgreesWithSimpleDateFormat() throws Exception {
+        DateStringConverter converter = new DateStringConverter("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+        SimpleDateFormat reference = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+        reference.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        Random random = new Random(42);
+        long min = reference.parse("1583-01-01T00:00:00.000Z").getTime();
+        long max = reference.parse("9999-12-31T23:59:59.999Z").getTime();
+        for (int i = 0; i < 10000; i++) {
+            Date date = new Date(min + (long) (random.nextDouble() * (max - min)));
+            String value = converter.toGraphProperty(date);
+            assertEquals(reference.format(date), value);
+            assertEquals(date, converter.toEntityAttribute(value));
+        }
+        assertEquals(reference.format(new Date(max)), converter.toGraphProperty(new Date(max)));
+        assertEquals("2012-02-29T23:59:59.999Z", converter.toGraphProperty(reference.parse("2012-02-29T23:59:59.999Z")));
+    }
+
+    @Test
+    public void assertISO8601ConversionParsesOffsets() throws Exception {
+        DateStringConverter converter = new DateStringConverter("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+        assertEquals(new Date(1234567890123L), converter.toEntityAttribute("2009-02-14T05:01:30.123+05:30"));
+        assertEquals(new Date(1234567890123L), converter.toEntityAttribute("2009-02-13T18:31:30.123-05:00"));
+        assertEquals("2009-02-13T23:31:30.123Z", converter.toGraphProperty(new Date(1234567890123L)));
+    }
+
+    @Test
+    public void assertISO8601ConversionFallsBackOutsideTheGregorianCalendar() throws Exception {
+        DateStringConverter converter = new DateStringConverter("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+        SimpleDateFormat reference = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+        reference.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        Date julian = reference.parse("1492-10-12T12:00:00.000Z");
+        assertEquals("1492-10-12T12:00:00.000Z", converter.toGraphProperty(julian));
+        assertEquals(julian, converter.toEntityAttribute("1492-10-12T12:00:00.000Z"));
+        assertEquals(reference.parse("2015-03-01T00:00:00.000Z"), converter.toEntityAttribute("2015-3-1T00:00:00.000Z"));
+    }
+
+    @Test
+    public void assertDateConversionIsThreadSafe() throws Exception {
+        final DateStringConverter converter = new DateStringConverter("yyyy-MM-dd HH:mm:ss Z");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final long seed = t;
+                results.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() {
+                        Random random = new Random(seed);
+                        for (int i = 0; i < 2000; i++) {
+                            Date date = new Date((random.nextInt(Integer.MAX_VALUE) + 946684800L) * 1000L);
+                            if (!date.equals(converter.toEntityAttribute(converter.toGraphProperty(date)))) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
 }
@@ -76,6 +76,17 @@ public class TestEnumConversion {
         assertEquals("Z", algebra.getNumberSystem().getDomain());
     }
 
+    @Test
+    public void testConverterTypesAreResolvedWithConverter() {
+        FieldInfo fieldInfo = algebraInfo.propertyField("numberSystem");
+        assertEquals(Enum.class, fieldInfo.converterInfo().entityType());
+        assertEquals(String.class, fieldInfo.converterInfo().graphType());
+
+        MethodInfo methodInfo = algebraInfo.propertyGetter("numberSystem");
+        assertEquals(NumberSystem.class, methodInfo.converterInfo().entityType());
+        assertEquals(String.class, methodInfo.converterInfo().graphType());
+    }
+
     @Test
     public void testGenderFieldWithAutoDetectedConverter() {
 
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2014-2015 "GraphAware"
+ *
+ * GraphAware Ltd
+ *
+ * This file is part of Neo4j-OGM.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.neo4j.ogm.unit.typeconversion;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.convertible.primitives.CelsiusConverter;
+import org.neo4j.ogm.domain.convertible.primitives.Gauge;
+import org.neo4j.ogm.domain.convertible.primitives.KilopascalConverter;
+import org.neo4j.ogm.domain.convertible.primitives.MillisecondsConverter;
+import org.neo4j.ogm.domain.convertible.primitives.PercentageConverter;
+import org.neo4j.ogm.domain.convertible.primitives.Reading;
+import org.neo4j.ogm.domain.convertible.primitives.YesNoConverter;
+import org.neo4j.ogm.entityaccess.DefaultEntityAccessStrategy;
+import org.neo4j.ogm.entityaccess.EntityAccessStrategy;
+import org.neo4j.ogm.entityaccess.GeneratedPropertyAccess;
+import org.neo4j.ogm.entityaccess.PropertyReader;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metadata.info.ClassInfo;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestPrimitiveConversion {
+
+    private static final MetaData metaData = new MetaData("org.neo4j.ogm.domain.convertible.primitives");
+    private static final ClassInfo readingInfo = metaData.classInfo("Reading");
+    private static final ClassInfo gaugeInfo = metaData.classInfo("Gauge");
+
+    private final EntityAccessStrategy entityAccessStrategy = new DefaultEntityAccessStrategy();
+
+    @Before
+    public void resetConversionCounts() {
+        MillisecondsConverter.boxedConversions = 0;
+        PercentageConverter.boxedConversions = 0;
+        CelsiusConverter.boxedConversions = 0;
+        KilopascalConverter.boxedConversions = 0;
+        YesNoConverter.boxedConversions = 0;
+    }
+
+    @Test
+    public void assertPrimitiveFieldsAreConvertedWithoutBoxing() {
+        Reading reading = new Reading();
+
+        write(reading, "duration", "1500ms");
+        write(reading, "percentage", "42%");
+        write(reading, "temperature", "21.5C");
+        write(reading, "valid", "yes");
+
+        assertEquals(1500L, reading.getDuration());
+        assertEquals(42, reading.getPercentage());
+        assertEquals(21.5, reading.getTemperature(), 0.0);
+        assertTrue(reading.isValid());
+
+        assertEquals("1500ms", read(reading, "duration"));
+        assertEquals("42%", read(reading, "percentage"));
+        assertEquals("21.5C", read(reading, "temperature"));
+        assertEquals("yes", read(reading, "valid"));
+
+        assertEquals(0, MillisecondsConverter.boxedConversions);
+        assertEquals(0, PercentageConverter.boxedConversions);
+        assertEquals(0, CelsiusConverter.boxedConversions);
+        assertEquals(0, YesNoConverter.boxedConversions);
+    }
+
+    @Test
+    public void assertPrimitivePropertyMethodsAreConvertedWithoutBoxing() {
+        Reading reading = new Reading();
+
+        write(reading, "pressure", 101325L);
+        assertEquals(101.325, reading.getPressure(), 0.0);
+        assertEquals(101325L, read(reading, "pressure"));
+
+        assertEquals(0, KilopascalConverter.boxedConversions);
+    }
+
+    @Test
+    public void assertGeneratedPropertyAccessConvertsPrimitiveFieldsWithoutBoxing() throws Exception {
+        GeneratedPropertyAccess access = (GeneratedPropertyAccess) Class.forName(Gauge.class.getName()
+                + GeneratedPropertyAccess.CLASS_NAME_SUFFIX).newInstance();
+        assertTrue(access.fields().containsAll(Arrays.asList("temperature", "valid")));
+
+        Gauge gauge = new Gauge();
+
+        write(gaugeInfo, gauge, "temperature", "-4.5C");
+        write(gaugeInfo, gauge, "valid", "no");
+
+        assertEquals(-4.5, gauge.getTemperature(), 0.0);
+        assertFalse(gauge.isValid());
+
+        assertEquals("-4.5C", read(gaugeInfo, gauge, "temperature"));
+        assertEquals("no", read(gaugeInfo, gauge, "valid"));
+
+        assertEquals(0, CelsiusConverter.boxedConversions);
+        assertEquals(0, YesNoConverter.boxedConversions);
+    }
+
+    private void write(Reading reading, String property, Object value) {
+        write(readingInfo, reading, property, value);
+    }
+
+    private void write(ClassInfo classInfo, Object entity, String property, Object value) {
+        entityAccessStrategy.getPropertyWriter(classInfo, property).write(entity, value);
+    }
+
+    private Object read(Reading reading, String property) {
+        return read(readingInfo, reading, property);
+    }
+
+    private Object read(ClassInfo classInfo, Object entity, String property) {
+        for (PropertyReader reader : entityAccessStrategy.getPropertyReaders(classInfo)) {
+            if (reader.propertyName().equals(property)) {
+                return reader.read(entity);
+            }
+        }
+        throw new AssertionError("No reader for " + property);
+    }
+}